@@ -1,48 +1,80 @@
 import managers.GameManager;
 import enums.*;
 import interfaces.GameConstants;
+import interfaces.GameLoopListener;
+import interfaces.InputListener;
+import managers.AssetManager;
+import managers.GameLogger;
+import managers.GameLoop;
+import managers.GameRandom;
+import managers.RenderManager;
+import managers.ReplayPlayer;
+import managers.ReplayRecorder;
+import managers.SnapshotBuffer;
 import models.*;
 
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
+import java.awt.image.BufferStrategy;
 import java.awt.image.BufferedImage;
-import java.util.List;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 
-public class CarRaceMain extends JFrame implements KeyListener, ActionListener {
+public class CarRaceMain extends JFrame implements KeyListener, GameLoopListener {
 
     private GameManager gameManager;
-    private Timer mainTimer;
-    private Timer gameTimerObj;
-    private Timer countdownTimerObj;
-    private Timer levelTransitionTimer;
+    private GameLoop gameLoop;
+    private RenderManager renderManager;
+    private final SnapshotBuffer snapshots = new SnapshotBuffer();
+    private final InputListener keyInput = this::handleKeyInput;
 
     private BufferedImage backBuffer;
-    private Graphics2D backGraphics;
-    private GamePanel gamePanel;
+    private Graphics2D bufferGraphics;
+    private volatile GamePanel gamePanel;
+    private Canvas gameCanvas;
+    private volatile BufferStrategy bufferStrategy;
 
-    private int countdownTimer = GameConstants.COUNTDOWN_TIME;
-    private int transitionCountdown = GameConstants.LEVEL_TRANSITION_TIME;
-    private double roadOffset = 0;
+    private int displayRefreshRate = GameConstants.TARGET_FPS;
+    private GameState publishedState;
 
-    private long lastFrameTime = 0;
-    private int frameCount = 0;
-    private double currentFPS = 0;
+    private final Path recordPath;
+    private final ReplayPlayer replay;
+    private volatile ReplayRecorder recorder;
 
     public CarRaceMain() {
+        this(null, null);
+    }
+
+    public CarRaceMain(Path recordPath, ReplayPlayer replay) {
         super(GameConstants.GAME_TITLE);
+        this.recordPath = recordPath;
+        this.replay = replay;
 
         try {
+            AssetManager.preload();
             this.gameManager = new GameManager();
+            this.renderManager = new RenderManager(gameManager.getMetrics());
 
             if (this.gameManager == null) {
                 throw new IllegalStateException("GameManager initialization failed");
             }
 
+            if (replay != null) {
+                replay.prepare(gameManager);
+            }
+            if (recordPath != null) {
+                Runtime.getRuntime().addShutdownHook(new Thread(this::saveRecording, "ReplayRecorder-Save"));
+            }
+
+            publishSnapshot();
+
             initializeUI();
-            initializeTimers();
+            initializeGameLoop();
+            initializeWindowListeners();
 
             setVisible(true);
+            initializeBufferStrategy();
             printStartupInfo();
 
         } catch (Exception e) {
@@ -58,751 +90,213 @@ public class CarRaceMain extends JFrame implements KeyListener, ActionListener {
         setLocationRelativeTo(null);
         setResizable(false);
 
-        gamePanel = new GamePanel();
-        add(gamePanel);
+        if (GameConstants.ACTIVE_RENDERING) {
+            gameCanvas = new GameCanvas();
+            gameCanvas.addKeyListener(this);
+            add(gameCanvas);
+        } else {
+            initializeBackBuffer();
+        }
+
+        addKeyListener(this);
+        setFocusable(true);
+        requestFocus();
+    }
 
+    private void initializeBackBuffer() {
         try {
             backBuffer = new BufferedImage(
                     GameConstants.SCREEN_WIDTH,
                     GameConstants.SCREEN_HEIGHT,
                     BufferedImage.TYPE_INT_RGB);
 
-            backGraphics = backBuffer.createGraphics();
-
-            backGraphics.setRenderingHint(RenderingHints.KEY_RENDERING,
-                    RenderingHints.VALUE_RENDER_SPEED);
-            backGraphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING,
-                    RenderingHints.VALUE_ANTIALIAS_OFF);
-            backGraphics.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING,
-                    RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            bufferGraphics = backBuffer.createGraphics();
+            applyRenderingHints(bufferGraphics);
+            renderManager.setRenderTarget(backBuffer);
 
         } catch (Exception e) {
             System.err.println("❌ Failed to initialize graphics: " + e.getMessage());
             throw new RuntimeException("Graphics initialization failed", e);
         }
 
-        addKeyListener(this);
-        setFocusable(true);
-        requestFocus();
-    }
-
-    private void initializeTimers() {
-
-        mainTimer = new Timer(16, this);
-        mainTimer.setRepeats(true);
-        mainTimer.setCoalesce(true);
-        mainTimer.start();
-
-        gameTimerObj = new Timer(1000, e -> {
-            if (gameManager.getGameState() == GameState.PLAYING) {
-                gameManager.setGameTimer(gameManager.getGameTimer() - 1);
-                gameManager.incrementSurvivalTime();
-
-                if (gameManager.getGameTimer() <= 0) {
-                    checkLevelCompletion();
-                }
-            }
-        });
-
-        countdownTimerObj = new Timer(1000, e -> {
-            countdownTimer--;
-            if (countdownTimer <= 0) {
-                countdownTimerObj.stop();
-                gameManager.setGameState(GameState.PLAYING);
-                int duration = (gameManager.getCurrentLevel() == 1) ? GameConstants.GAME_DURATION : 15;
-                gameManager.setGameTimer(duration);
-                gameTimerObj.start();
-            }
-        });
-
-        levelTransitionTimer = new Timer(1000, e -> {
-            transitionCountdown--;
-            if (transitionCountdown <= 0) {
-                levelTransitionTimer.stop();
-                startNextLevel();
-            }
-        });
-    }
-
-    private void printStartupInfo() {
-        System.out.println("🎮 " + GameConstants.GAME_TITLE + " Started!");
-        System.out.println("✅ INHERITANCE: Vehicle -> Player, ObstacleCar, TreeObject");
-        System.out.println("✅ ENCAPSULATION: Private fields, controlled access");
-        System.out.println("✅ ABSTRACTION: Interfaces & Abstract classes");
-        System.out.println("✅ POLYMORPHISM: Method overriding & interfaces");
-        System.out.println("🎯 Target FPS: 60 | Timer Interval: 16ms");
-
-        if (GameConstants.DEBUG_MODE) {
-            System.out.println("🔧 DEBUG MODE ENABLED - Additional info available");
-        }
-    }
-
-    private void renderGame() {
-
-        long currentTime = System.currentTimeMillis();
-        if (lastFrameTime > 0) {
-            long deltaTime = currentTime - lastFrameTime;
-            if (deltaTime > 0) {
-                currentFPS = 1000.0 / deltaTime;
-            }
-        }
-        lastFrameTime = currentTime;
-
-        backGraphics.setColor(GameConstants.GRASS_COLOR);
-        backGraphics.fillRect(0, 0, GameConstants.SCREEN_WIDTH, GameConstants.SCREEN_HEIGHT);
-
-        switch (gameManager.getGameState()) {
-            case MAIN_MENU -> drawMainMenu();
-            case DIFFICULTY_SELECT -> drawDifficultyMenu();
-            case COUNTDOWN -> drawCountdown();
-            case PLAYING -> drawGameplay();
-            case LEVEL_TRANSITION -> drawLevelTransition();
-            case GAME_OVER -> drawGameOver();
-            case PAUSED -> drawPauseMenu();
-        }
-    }
-
-    private void drawGameplay() {
-        drawGameBackground();
-
-        if (GameConstants.DEBUG_MODE) {
-            drawRoadDebugInfo();
-        }
-
-        drawGameObjects();
-        drawGameUI();
-
-        if (GameConstants.DEBUG_MODE) {
-            drawDebugInfo();
-        }
-    }
-
-    private void drawGameBackground() {
-
-        backGraphics.setColor(GameConstants.ROAD_COLOR);
-        backGraphics.fillRect(GameConstants.LEFT_BOUNDARY, 0,
-                GameConstants.RIGHT_BOUNDARY - GameConstants.LEFT_BOUNDARY,
-                GameConstants.SCREEN_HEIGHT);
-
-        backGraphics.setColor(new Color(255, 255, 255, 200));
-
-        final int DASH_HEIGHT = 20;
-        final int DASH_GAP = 20;
-        final int DASH_CYCLE = DASH_HEIGHT + DASH_GAP;
-
-        roadOffset += 3.0 + (gameManager.getCurrentLevel() - 1) * 0.3;
-        double animOffset = roadOffset % DASH_CYCLE;
-
-        int dashCount = (GameConstants.SCREEN_HEIGHT / DASH_CYCLE) + 4;
-
-        for (int lane = 1; lane < GameConstants.LANE_COUNT; lane++) {
-            int laneX = GameConstants.LEFT_BOUNDARY + (lane * GameConstants.LANE_WIDTH);
-
-            if (laneX == GameConstants.CENTER_DIVIDER_LEFT ||
-                    laneX == GameConstants.CENTER_DIVIDER_RIGHT)
-                continue;
-
-            for (int dash = -2; dash < dashCount; dash++) {
-                double dashTop = (dash * DASH_CYCLE) - animOffset;
-                double dashBottom = dashTop + DASH_HEIGHT;
-
-                if (dashBottom >= 0 && dashTop <= GameConstants.SCREEN_HEIGHT) {
-                    backGraphics.fillRect(laneX - 2, (int) dashTop, 4, DASH_HEIGHT);
-                }
-            }
-        }
-
-        backGraphics.setColor(GameConstants.DIVIDER_COLOR);
-        for (int dash = -2; dash < dashCount; dash++) {
-            double dashTop = (dash * DASH_CYCLE) - animOffset;
-            double dashBottom = dashTop + DASH_HEIGHT;
-
-            if (dashBottom >= 0 && dashTop <= GameConstants.SCREEN_HEIGHT) {
-                backGraphics.fillRect(GameConstants.CENTER_DIVIDER_LEFT + 6, (int) dashTop, 18, DASH_HEIGHT + 3);
-            }
-        }
-
-        backGraphics.setColor(GameConstants.BOUNDARY_COLOR);
-        backGraphics.fillRect(GameConstants.LEFT_BOUNDARY - 8, 0, 8, GameConstants.SCREEN_HEIGHT);
-        backGraphics.fillRect(GameConstants.RIGHT_BOUNDARY, 0, 8, GameConstants.SCREEN_HEIGHT);
-        backGraphics.fillRect(GameConstants.CENTER_DIVIDER_LEFT - 8, 0, 8, GameConstants.SCREEN_HEIGHT);
-        backGraphics.fillRect(GameConstants.CENTER_DIVIDER_RIGHT, 0, 8, GameConstants.SCREEN_HEIGHT);
-
-        backGraphics.setColor(Color.WHITE);
-        backGraphics.fillRect(GameConstants.LEFT_BOUNDARY, 0, 3, GameConstants.SCREEN_HEIGHT);
-        backGraphics.fillRect(GameConstants.RIGHT_BOUNDARY - 3, 0, 3, GameConstants.SCREEN_HEIGHT);
-    }
-
-    private void drawSimpleContinuousRoad() {
-
-        backGraphics.setColor(new Color(255, 255, 255, 200));
-
-        int dashLength = 20;
-        int dashSpacing = 40;
-
-        int totalHeight = GameConstants.SCREEN_HEIGHT + 200;
-        int cyclesNeeded = (totalHeight / dashSpacing) + 2;
-
-        for (int lane = 1; lane < GameConstants.LANE_COUNT; lane++) {
-            int laneX = GameConstants.LEFT_BOUNDARY + (lane * GameConstants.LANE_WIDTH);
-
-            if (laneX != GameConstants.CENTER_DIVIDER_LEFT &&
-                    laneX != GameConstants.CENTER_DIVIDER_RIGHT) {
-
-                double startOffset = roadOffset % dashSpacing;
-
-                for (int i = 0; i < cyclesNeeded; i++) {
-                    double dashY = (i * dashSpacing) - startOffset - dashSpacing;
-
-                    if (dashY > -100 && dashY < GameConstants.SCREEN_HEIGHT + 100) {
-                        backGraphics.fillRect(laneX - 2, (int) dashY, 4, dashLength);
-                    }
-                }
-            }
-        }
-
-        backGraphics.setColor(GameConstants.DIVIDER_COLOR);
-        double centerStartOffset = roadOffset % dashSpacing;
-
-        for (int i = 0; i < cyclesNeeded; i++) {
-            double dividerY = (i * dashSpacing) - centerStartOffset - dashSpacing;
-
-            if (dividerY > -100 && dividerY < GameConstants.SCREEN_HEIGHT + 100) {
-                backGraphics.fillRect(GameConstants.CENTER_DIVIDER_LEFT + 6, (int) dividerY, 18, dashLength + 5);
-            }
-        }
+        gamePanel = new GamePanel();
+        add(gamePanel);
     }
 
-    private void drawRoadDebugInfo() {
-        if (!GameConstants.DEBUG_MODE)
+    private void initializeBufferStrategy() {
+        if (gameCanvas == null)
             return;
 
-        backGraphics.setColor(Color.CYAN);
-        backGraphics.setFont(new Font("Monospace", Font.PLAIN, 12));
-        backGraphics.drawString(String.format("Road Offset: %.2f", roadOffset), 10, 300);
-        backGraphics.drawString(String.format("Pattern Mod: %.2f", roadOffset % 60.0), 10, 315);
-        backGraphics.drawString(
-                String.format("Animation Speed: %.2f", 4.0 * (1.0 + (gameManager.getCurrentLevel() - 1) * 0.1)), 10,
-                330);
-
-        backGraphics.setColor(Color.RED);
-        double patternBoundary = 60.0 - (roadOffset % 60.0);
-        if (patternBoundary < GameConstants.SCREEN_HEIGHT) {
-            backGraphics.drawLine(0, (int) patternBoundary, GameConstants.SCREEN_WIDTH, (int) patternBoundary);
-        }
-    }
-
-    private void drawGameObjects() {
-
-        List<TreeObject> trees = gameManager.getTrees();
-        if (trees != null) {
-            for (TreeObject tree : trees) {
-                if (tree != null && tree.isActive() && isTreeVisible(tree)) {
-                    tree.draw(backGraphics);
-                }
-            }
-        }
-
-        List<ObstacleCar> obstacles = gameManager.getObstacles();
-        if (obstacles != null) {
-            for (ObstacleCar obstacle : obstacles) {
-                if (obstacle != null && obstacle.isActive() && isObjectVisible(obstacle)) {
-                    obstacle.draw(backGraphics);
-                }
-            }
-        }
-
-        Player player1 = gameManager.getPlayer1();
-        Player player2 = gameManager.getPlayer2();
-
-        if (player1 != null && player1.isActive())
-            player1.draw(backGraphics);
-        if (player2 != null && player2.isActive())
-            player2.draw(backGraphics);
-
-        List<Particle> particles = gameManager.getParticles();
-        if (particles != null) {
-            for (Particle particle : particles) {
-                if (particle != null && particle.isActive() &&
-                        particle.getX() > -50 && particle.getX() < GameConstants.SCREEN_WIDTH + 50 &&
-                        particle.getY() > -50 && particle.getY() < GameConstants.SCREEN_HEIGHT + 50) {
-                    particle.draw(backGraphics);
-                }
-            }
+        try {
+            gameCanvas.createBufferStrategy(GameConstants.RENDER_BUFFER_COUNT);
+            bufferStrategy = gameCanvas.getBufferStrategy();
+            gameCanvas.requestFocus();
+            System.out.println("🖥️ Active rendering: " + GameConstants.RENDER_BUFFER_COUNT + " buffers");
+        } catch (Exception e) {
+            System.err.println("❌ Active rendering unavailable, using repaint(): " + e.getMessage());
+            fallBackToRepaint();
         }
     }
 
-    private boolean isObjectVisible(Vehicle vehicle) {
-        if (vehicle == null)
-            return false;
-
-        double x = vehicle.getX();
-        double y = vehicle.getY();
-        double width = vehicle.getWidth();
-        double height = vehicle.getHeight();
-
-        return (x + width > -50 && x < GameConstants.SCREEN_WIDTH + 50 &&
-                y + height > -50 && y < GameConstants.SCREEN_HEIGHT + 50);
-    }
-
-    private boolean isTreeVisible(TreeObject tree) {
-        if (tree == null)
-            return false;
-
-        double x = tree.getX();
-        double y = tree.getY();
-        double width = tree.getWidth();
-        double height = tree.getHeight();
-
-        return (x + width > -50 && x < GameConstants.SCREEN_WIDTH + 50 &&
-                y + height > -50 && y < GameConstants.SCREEN_HEIGHT + 50);
-    }
-
-    private void drawGameUI() {
-
-        Color timerColor = getTimerColor(gameManager.getGameTimer());
-
-        backGraphics.setColor(new Color(timerColor.getRed(), timerColor.getGreen(),
-                timerColor.getBlue(), 180));
-        backGraphics.fillRoundRect(550, 15, 200, 70, 15, 15);
-        backGraphics.setColor(Color.WHITE);
-        backGraphics.setFont(new Font("Arial", Font.BOLD, 32));
-        backGraphics.drawString("Waktu: " + gameManager.getGameTimer(), 565, 60);
-
-        backGraphics.setColor(new Color(0, 0, 0, 180));
-        backGraphics.fillRoundRect(320, 15, 220, 70, 15, 15);
-        backGraphics.setColor(Color.YELLOW);
-        backGraphics.setFont(new Font("Arial", Font.BOLD, 26));
-        backGraphics.drawString("LEVEL " + gameManager.getCurrentLevel(), 335, 45);
-
-        drawPlayerStatus(gameManager.getPlayer1(), 20, 15);
-        drawPlayerStatus(gameManager.getPlayer2(), 1020, 15);
-
-        drawBottomInfoPanel();
-    }
-
-    private Color getTimerColor(int timeLeft) {
-        if (timeLeft <= 5)
-            return Color.RED;
-        if (timeLeft <= 10)
-            return Color.ORANGE;
-        return Color.BLACK;
-    }
-
-    private void drawPlayerStatus(Player player, int x, int y) {
-        if (player == null)
+    private void fallBackToRepaint() {
+        bufferStrategy = null;
+        if (gamePanel != null)
             return;
 
-        backGraphics.setColor(new Color(0, 0, 0, 180));
-        backGraphics.fillRoundRect(x, y, 280, 120, 15, 15);
-
-        backGraphics.setColor(player.getStatusColor());
-        backGraphics.setFont(new Font("Arial", Font.BOLD, 20));
-        backGraphics.drawString(player.getName(), x + 10, y + 25);
-
-        backGraphics.setColor(Color.WHITE);
-        backGraphics.setFont(new Font("Arial", Font.BOLD, 16));
-        backGraphics.drawString("Nyawa:", x + 10, y + 45);
-
-        for (int i = 0; i < GameConstants.MAX_PLAYER_LIVES; i++) {
-            Color heartColor = i < player.getLives() ? Color.RED : Color.DARK_GRAY;
-            backGraphics.setColor(heartColor);
-            backGraphics.fillOval(x + 65 + i * 20, y + 30, 15, 15);
+        if (gameCanvas != null) {
+            remove(gameCanvas);
+            gameCanvas = null;
         }
 
-        backGraphics.setColor(Color.CYAN);
-        backGraphics.setFont(new Font("Arial", Font.BOLD, 14));
-        backGraphics.drawString("Level Selesai: " + player.getLevelsCompleted(), x + 10, y + 65);
-
-        String status = getPlayerStatus(player);
-        Color statusColor = getPlayerStatusColor(player);
-
-        backGraphics.setColor(statusColor);
-        backGraphics.setFont(new Font("Arial", Font.BOLD, 16));
-        backGraphics.drawString(status, x + 10, y + 85);
-    }
-
-    private String getPlayerStatus(Player player) {
-        if (!player.isAlive())
-            return "TABRAKAN";
-        if (player.isInvulnerable())
-            return "KEBAL";
-        return "AKTIF";
-    }
-
-    private Color getPlayerStatusColor(Player player) {
-        if (!player.isAlive())
-            return Color.RED;
-        if (player.isInvulnerable())
-            return Color.YELLOW;
-        return Color.GREEN;
-    }
-
-    private void drawBottomInfoPanel() {
-        backGraphics.setColor(new Color(0, 0, 0, 150));
-        backGraphics.fillRoundRect(50, 810, 1200, 80, 15, 15);
-
-        backGraphics.setColor(Color.RED);
-        backGraphics.setFont(new Font("Arial", Font.BOLD, 16));
-        String warning = "🚫 DILARANG MELEWATI SEMUA MARKA MERAH! 🚫";
-        drawCenteredText(warning, 830);
-
-        backGraphics.setColor(Color.YELLOW);
-        backGraphics.setFont(new Font("Arial", Font.PLAIN, 14));
-        DifficultyLevel diff = gameManager.getDifficulty();
-        String levelInfo = String.format("Level %d - %d obstacles | Speed: %d-%d",
-                gameManager.getCurrentLevel(),
-                diff.getObstacleCount(gameManager.getCurrentLevel()),
-                diff.getMinSpeed(gameManager.getCurrentLevel()),
-                diff.getMaxSpeed(gameManager.getCurrentLevel()));
-        drawCenteredText(levelInfo, 850);
-
-        backGraphics.setColor(Color.CYAN);
-        backGraphics.setFont(new Font("Arial", Font.PLAIN, 12));
-        String challengeInfo = String.format("Bertahan %d detik lagi untuk Level %d! Total survival: %ds",
-                gameManager.getGameTimer(),
-                gameManager.getCurrentLevel() + 1,
-                gameManager.getTotalSurvivalTime());
-        drawCenteredText(challengeInfo, 870);
-    }
-
-    private void drawCenteredText(String text, int y) {
-        FontMetrics fm = backGraphics.getFontMetrics();
-        int x = (GameConstants.SCREEN_WIDTH - fm.stringWidth(text)) / 2;
-        backGraphics.drawString(text, x, y);
-    }
-
-    private void drawDebugInfo() {
-        backGraphics.setColor(new Color(0, 0, 0, 150));
-        backGraphics.fillRoundRect(10, 150, 250, 140, 10, 10);
-
-        backGraphics.setColor(Color.GREEN);
-        backGraphics.setFont(new Font("Monospace", Font.PLAIN, 12));
-
-        String[] debugInfo = {
-                "DEBUG MODE",
-                String.format("FPS: %.1f", currentFPS),
-                "Objects: " + getTotalObjectCount(),
-                "Input Keys: " + gameManager.getInputManager().getActiveKeyCount(),
-                String.format("Road Offset: %.1f", roadOffset),
-                "Game State: " + gameManager.getGameState(),
-                "Obstacles: " + gameManager.getObstacles().size(),
-                "Particles: " + gameManager.getParticles().size()
-        };
-
-        for (int i = 0; i < debugInfo.length; i++) {
-            backGraphics.drawString(debugInfo[i], 15, 170 + i * 15);
-        }
+        initializeBackBuffer();
+        revalidate();
+        requestFocus();
     }
 
-    private int getTotalObjectCount() {
-        int count = 2;
-
-        if (gameManager.getObstacles() != null) {
-            count += gameManager.getObstacles().size();
-        }
-        if (gameManager.getParticles() != null) {
-            count += gameManager.getParticles().size();
-        }
-        if (gameManager.getTrees() != null) {
-            count += gameManager.getTrees().size();
-        }
-
-        return count;
+    private void applyRenderingHints(Graphics2D g) {
+        g.setRenderingHint(RenderingHints.KEY_RENDERING,
+                RenderingHints.VALUE_RENDER_SPEED);
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING,
+                RenderingHints.VALUE_ANTIALIAS_OFF);
+        g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING,
+                RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
     }
 
-    private void drawMainMenu() {
-        backGraphics.setFont(new Font("Arial", Font.BOLD, 60));
-
-        backGraphics.setColor(new Color(0, 0, 0, 100));
-        drawCenteredText("🏁 CAR RACE SURVIVAL 🏁", 203);
-
-        backGraphics.setColor(Color.WHITE);
-        drawCenteredText("🏁 CAR RACE SURVIVAL 🏁", 200);
-
-        backGraphics.setFont(new Font("Arial", Font.PLAIN, 24));
-        backGraphics.setColor(Color.YELLOW);
-
-        drawMenuOptions(new String[] { "MULAI PERMAINAN", "KELUAR" }, 400, 80);
-
-        backGraphics.setFont(new Font("Arial", Font.PLAIN, 18));
-        backGraphics.setColor(Color.LIGHT_GRAY);
-        drawCenteredText("Navigasi: ↑↓ | Pilih: ENTER", 650);
+    private void initializeGameLoop() {
+        displayRefreshRate = getDisplayRefreshRate();
+        gameLoop = new GameLoop(this, GameConstants.TICK_RATE, GameConstants.MAX_SUB_STEPS, displayRefreshRate);
+        gameLoop.start();
     }
 
-    private void drawDifficultyMenu() {
-
-        backGraphics.setColor(new Color(30, 30, 30, 200));
-        backGraphics.fillRoundRect(150, 100, 1000, 700, 30, 30);
-
-        backGraphics.setFont(new Font("Arial", Font.BOLD, 45));
-        backGraphics.setColor(Color.WHITE);
-        drawCenteredText("PILIH TINGKAT KESULITAN", 180);
-
-        DifficultyLevel[] levels = DifficultyLevel.values();
-        int menuSelection = gameManager.getInputManager().getMenuSelection();
-
-        backGraphics.setFont(new Font("Arial", Font.BOLD, 32));
-        for (int i = 0; i < levels.length; i++) {
-            int optionY = 280 + i * 120;
-            boolean isSelected = (menuSelection == i);
-
-            if (isSelected) {
-                backGraphics.setColor(new Color(0, 255, 100, 180));
-                backGraphics.fillRoundRect(200, optionY - 50, 900, 90, 20, 20);
-                backGraphics.setColor(Color.BLACK);
-            } else {
-                backGraphics.setColor(Color.WHITE);
+    private void initializeWindowListeners() {
+        addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowIconified(WindowEvent e) {
+                gameLoop.setRenderSuspended(true);
+                GameLogger.log(LogEvent.RENDER_SUSPENDED);
             }
 
-            drawCenteredText(levels[i].description, optionY);
-
-            if (isSelected) {
-                backGraphics.setFont(new Font("Arial", Font.PLAIN, 18));
-                backGraphics.setColor(Color.WHITE);
-                String details = String.format("Base Obstacles: %d | Speed: %d-%d",
-                        levels[i].baseObstacleCount,
-                        levels[i].baseMinSpeed,
-                        levels[i].baseMaxSpeed);
-                drawCenteredText(details, optionY + 30);
-                backGraphics.setFont(new Font("Arial", Font.BOLD, 32));
+            @Override
+            public void windowDeiconified(WindowEvent e) {
+                gameLoop.setRenderSuspended(false);
+                refreshIdleFrame();
+                GameLogger.log(LogEvent.RENDER_RESUMED, gameLoop.getRenderRate());
             }
-        }
-
-        backGraphics.setFont(new Font("Arial", Font.PLAIN, 16));
-        backGraphics.setColor(Color.CYAN);
-        drawCenteredText("ESC untuk kembali | ENTER untuk pilih", 750);
-    }
-
-    private void drawMenuOptions(String[] options, int startY, int spacing) {
-        int menuSelection = gameManager.getInputManager().getMenuSelection();
-
-        backGraphics.setFont(new Font("Arial", Font.BOLD, 36));
-        for (int i = 0; i < options.length; i++) {
-            int optionY = startY + i * spacing;
+        });
 
-            if (menuSelection == i) {
-                backGraphics.setColor(new Color(0, 255, 100, 180));
-                FontMetrics fm = backGraphics.getFontMetrics();
-                int textWidth = fm.stringWidth(options[i]);
-                int rectX = (GameConstants.SCREEN_WIDTH - textWidth) / 2 - 20;
-                backGraphics.fillRoundRect(rectX, optionY - 40, textWidth + 40, 60, 20, 20);
-                backGraphics.setColor(Color.BLACK);
-            } else {
-                backGraphics.setColor(Color.WHITE);
+        addWindowFocusListener(new WindowAdapter() {
+            @Override
+            public void windowGainedFocus(WindowEvent e) {
+                gameLoop.setRenderRate(displayRefreshRate);
+                refreshIdleFrame();
+                GameLogger.log(LogEvent.RENDER_RESUMED, displayRefreshRate);
             }
 
-            drawCenteredText(options[i], optionY);
-        }
-    }
-
-    private void drawCountdown() {
-        drawGameplay();
-
-        backGraphics.setColor(new Color(0, 0, 0, 150));
-        backGraphics.fillRect(0, 0, GameConstants.SCREEN_WIDTH, GameConstants.SCREEN_HEIGHT);
-
-        backGraphics.setFont(new Font("Arial", Font.BOLD, 120));
-        backGraphics.setColor(Color.YELLOW);
-        String countdown = (countdownTimer > 0) ? String.valueOf(countdownTimer) : "MULAI!";
-        drawCenteredText(countdown, 450);
-
-        backGraphics.setFont(new Font("Arial", Font.PLAIN, 20));
-        backGraphics.setColor(Color.WHITE);
-        drawCenteredText("SPACE untuk Skip | ESC untuk Menu", 550);
-    }
-
-    private void drawLevelTransition() {
-        drawGameplay();
-
-        backGraphics.setColor(new Color(0, 0, 0, 180));
-        backGraphics.fillRect(0, 0, GameConstants.SCREEN_WIDTH, GameConstants.SCREEN_HEIGHT);
-
-        backGraphics.setFont(new Font("Arial", Font.BOLD, 50));
-        backGraphics.setColor(new Color(255, 215, 0));
-        drawCenteredText("LEVEL " + (gameManager.getCurrentLevel() - 1) + " SELESAI!", 300);
-
-        backGraphics.setFont(new Font("Arial", Font.BOLD, 35));
-        backGraphics.setColor(Color.WHITE);
-        drawCenteredText("BERSIAP UNTUK LEVEL " + gameManager.getCurrentLevel(), 380);
-
-        backGraphics.setFont(new Font("Arial", Font.BOLD, 80));
-        backGraphics.setColor(Color.YELLOW);
-        drawCenteredText(String.valueOf(transitionCountdown), 500);
-
-        backGraphics.setFont(new Font("Arial", Font.PLAIN, 18));
-        backGraphics.setColor(Color.CYAN);
-        drawCenteredText("SPACE untuk Skip | ESC untuk Menu", 580);
-    }
-
-    private void drawGameOver() {
-        drawGameplay();
-
-        backGraphics.setColor(new Color(0, 0, 0, 200));
-        backGraphics.fillRect(0, 0, GameConstants.SCREEN_WIDTH, GameConstants.SCREEN_HEIGHT);
-
-        backGraphics.setFont(new Font("Arial", Font.BOLD, 60));
-        backGraphics.setColor(Color.RED);
-        drawCenteredText("GAME OVER", 200);
-
-        String winner = getWinner();
-        backGraphics.setFont(new Font("Arial", Font.BOLD, 40));
-        backGraphics.setColor(new Color(255, 215, 0));
-        drawCenteredText(winner, 280);
-
-        drawGameStats();
-
-        backGraphics.setFont(new Font("Arial", Font.BOLD, 20));
-        backGraphics.setColor(Color.CYAN);
-        drawCenteredText("R untuk Restart | ESC untuk Menu", 650);
-    }
-
-    private void drawGameStats() {
-        backGraphics.setFont(new Font("Arial", Font.PLAIN, 24));
-        backGraphics.setColor(Color.WHITE);
+            @Override
+            public void windowLostFocus(WindowEvent e) {
+                gameLoop.setRenderRate(GameConstants.BACKGROUND_RENDER_RATE);
+                GameLogger.log(LogEvent.RENDER_THROTTLED, GameConstants.BACKGROUND_RENDER_RATE);
+            }
+        });
 
-        String[] stats = {
-                "STATISTIK PERMAINAN:",
-                "",
-                "Level Tertinggi: " + gameManager.getCurrentLevel(),
-                "Total Survival: " + gameManager.getTotalSurvivalTime() + " detik",
-                "Kesulitan: " + gameManager.getDifficulty().description,
-                "",
-                gameManager.getPlayer1().getName() + " - Level: " + gameManager.getPlayer1().getLevelsCompleted(),
-                gameManager.getPlayer2().getName() + " - Level: " + gameManager.getPlayer2().getLevelsCompleted()
-        };
+        if (gameCanvas != null) {
+            gameCanvas.addComponentListener(new ComponentAdapter() {
+                @Override
+                public void componentResized(ComponentEvent e) {
+                    refreshIdleFrame();
+                }
 
-        int startY = 350;
-        for (int i = 0; i < stats.length; i++) {
-            if (!stats[i].isEmpty()) {
-                if (i == 0) {
-                    backGraphics.setColor(Color.YELLOW);
-                    backGraphics.setFont(new Font("Arial", Font.BOLD, 24));
-                } else {
-                    backGraphics.setColor(Color.WHITE);
-                    backGraphics.setFont(new Font("Arial", Font.PLAIN, 20));
+                @Override
+                public void componentShown(ComponentEvent e) {
+                    refreshIdleFrame();
                 }
-                drawCenteredText(stats[i], startY + i * 25);
-            }
+            });
         }
     }
 
-    private void drawPauseMenu() {
-        drawGameplay();
-
-        backGraphics.setColor(new Color(0, 0, 0, 150));
-        backGraphics.fillRect(0, 0, GameConstants.SCREEN_WIDTH, GameConstants.SCREEN_HEIGHT);
-
-        backGraphics.setFont(new Font("Arial", Font.BOLD, 60));
-        backGraphics.setColor(Color.YELLOW);
-        drawCenteredText("PAUSE", 300);
-
-        drawMenuOptions(new String[] { "LANJUTKAN", "MENU UTAMA", "KELUAR" }, 400, 60);
-
-        backGraphics.setFont(new Font("Arial", Font.PLAIN, 16));
-        backGraphics.setColor(Color.LIGHT_GRAY);
-        drawCenteredText("ESC untuk lanjutkan langsung", 580);
+    private void refreshIdleFrame() {
+        renderManager.invalidateIdleFrame();
+        gameLoop.requestRender();
     }
 
-    private void checkLevelCompletion() {
-        boolean bothAlive = gameManager.getPlayer1().isAlive() && gameManager.getPlayer2().isAlive();
-
-        if (bothAlive) {
-
-            gameManager.nextLevel();
-            transitionCountdown = GameConstants.LEVEL_TRANSITION_TIME;
-            gameManager.setGameState(GameState.LEVEL_TRANSITION);
-            levelTransitionTimer.start();
-            gameTimerObj.stop();
-        } else {
-
-            gameManager.setGameState(GameState.GAME_OVER);
-            gameTimerObj.stop();
+    private int getDisplayRefreshRate() {
+        try {
+            int refreshRate = getGraphicsConfiguration().getDevice().getDisplayMode().getRefreshRate();
+            if (refreshRate != java.awt.DisplayMode.REFRESH_RATE_UNKNOWN && refreshRate > 0) {
+                return refreshRate;
+            }
+        } catch (Exception e) {
+            System.err.println("❌ Could not query display refresh rate: " + e.getMessage());
         }
+        return GameConstants.TARGET_FPS;
     }
 
-    private void startNextLevel() {
-        gameManager.setGameState(GameState.PLAYING);
-        int duration = (gameManager.getCurrentLevel() == 1) ? GameConstants.GAME_DURATION : 15;
-        gameManager.setGameTimer(duration);
-        gameTimerObj.start();
-    }
-
-    private String getWinner() {
-        Player p1 = gameManager.getPlayer1();
-        Player p2 = gameManager.getPlayer2();
+    private void printStartupInfo() {
+        System.out.println("🎮 " + GameConstants.GAME_TITLE + " Started!");
+        System.out.println("✅ INHERITANCE: Vehicle -> Player, TreeObject");
+        System.out.println("✅ ENCAPSULATION: Private fields, controlled access");
+        System.out.println("✅ ABSTRACTION: Interfaces & Abstract classes");
+        System.out.println("✅ POLYMORPHISM: Method overriding & interfaces");
+        System.out.println("🎯 Tick Rate: " + gameLoop.getTickRate() + " Hz | Render Rate: "
+                + gameLoop.getRenderRate() + " Hz");
 
-        if (p1.isAlive() && !p2.isAlive()) {
-            return "🏆 " + p1.getName() + " MENANG! 🏆";
-        } else if (!p1.isAlive() && p2.isAlive()) {
-            return "🏆 " + p2.getName() + " MENANG! 🏆";
-        } else {
-            return "🤝 SERI - Kedua Pemain Gugur Bersamaan 🤝";
+        if (GameConstants.DEBUG_MODE) {
+            System.out.println("🔧 DEBUG MODE ENABLED - Additional info available");
         }
     }
 
     @Override
     public void keyPressed(KeyEvent e) {
-        gameManager.getInputManager().keyPressed(e.getKeyCode());
+        if (replay != null)
+            return;
+        gameManager.getInputManager().enqueue(e.getKeyCode(), true, e.getWhen());
+    }
+
+    private void handleKeyInput(int keyCode, boolean pressed, long when) {
+        if (!pressed)
+            return;
 
         switch (gameManager.getGameState()) {
-            case MAIN_MENU -> handleMainMenuInput(e);
-            case DIFFICULTY_SELECT -> handleDifficultyMenuInput(e);
-            case COUNTDOWN -> handleCountdownInput(e);
-            case PLAYING -> handlePlayingInput(e);
-            case LEVEL_TRANSITION -> handleLevelTransitionInput(e);
-            case PAUSED -> handlePauseMenuInput(e);
-            case GAME_OVER -> handleGameOverInput(e);
+            case MAIN_MENU -> handleMainMenuInput(keyCode);
+            case DIFFICULTY_SELECT -> handleDifficultyMenuInput(keyCode);
+            case COUNTDOWN -> handleCountdownInput(keyCode);
+            case PLAYING -> handlePlayingInput(keyCode);
+            case LEVEL_TRANSITION -> handleLevelTransitionInput(keyCode);
+            case PAUSED -> handlePauseMenuInput(keyCode);
+            case GAME_OVER -> handleGameOverInput(keyCode);
         }
     }
 
-    private void handlePlayingInput(KeyEvent e) {
-        if (e.getKeyCode() == KeyEvent.VK_ESCAPE) {
-            gameManager.setGameState(GameState.PAUSED);
-            gameTimerObj.stop();
+    private void handlePlayingInput(int keyCode) {
+        if (keyCode == KeyEvent.VK_ESCAPE) {
+            gameManager.pause();
         }
     }
 
-    private void handleCountdownInput(KeyEvent e) {
-        switch (e.getKeyCode()) {
-            case KeyEvent.VK_ESCAPE -> {
-                countdownTimerObj.stop();
-                gameManager.setGameState(GameState.MAIN_MENU);
-                gameManager.getInputManager().setMenuSelection(0);
-            }
+    private void handleCountdownInput(int keyCode) {
+        switch (keyCode) {
+            case KeyEvent.VK_ESCAPE -> gameManager.returnToMenu();
             case KeyEvent.VK_SPACE -> {
-                countdownTimerObj.stop();
-                countdownTimer = 0;
-                gameManager.setGameState(GameState.PLAYING);
-                int duration = (gameManager.getCurrentLevel() == 1) ? GameConstants.GAME_DURATION : 15;
-                gameManager.setGameTimer(duration);
-                gameTimerObj.start();
-                System.out.println("⏩ Countdown skipped!");
+                gameManager.skipCountdown();
+                GameLogger.log(LogEvent.COUNTDOWN_SKIPPED);
             }
         }
     }
 
-    private void handleLevelTransitionInput(KeyEvent e) {
-        switch (e.getKeyCode()) {
-            case KeyEvent.VK_ESCAPE -> {
-                levelTransitionTimer.stop();
-                gameTimerObj.stop();
-                gameManager.setGameState(GameState.MAIN_MENU);
-                gameManager.getInputManager().setMenuSelection(0);
-            }
+    private void handleLevelTransitionInput(int keyCode) {
+        switch (keyCode) {
+            case KeyEvent.VK_ESCAPE -> gameManager.returnToMenu();
             case KeyEvent.VK_SPACE -> {
-                levelTransitionTimer.stop();
-                transitionCountdown = 0;
-                startNextLevel();
-                System.out.println("⏩ Level transition skipped!");
+                gameManager.skipTransition();
+                GameLogger.log(LogEvent.TRANSITION_SKIPPED);
             }
         }
     }
 
-    private void handleMainMenuInput(KeyEvent e) {
-        int selection = gameManager.getInputManager().handleMenuInput(e, 2);
+    private void handleMainMenuInput(int keyCode) {
+        int selection = gameManager.getInputManager().handleMenuInput(keyCode, 2);
 
-        if (e.getKeyCode() == KeyEvent.VK_ENTER) {
+        if (keyCode == KeyEvent.VK_ENTER) {
             if (selection == 0) {
                 gameManager.setGameState(GameState.DIFFICULTY_SELECT);
                 gameManager.getInputManager().setMenuSelection(0);
@@ -812,60 +306,66 @@ public class CarRaceMain extends JFrame implements KeyListener, ActionListener {
         }
     }
 
-    private void handleDifficultyMenuInput(KeyEvent e) {
-        int selection = gameManager.getInputManager().handleMenuInput(e, 3);
+    private void handleDifficultyMenuInput(int keyCode) {
+        int selection = gameManager.getInputManager().handleMenuInput(keyCode, 3);
 
-        if (e.getKeyCode() == KeyEvent.VK_ENTER) {
+        if (keyCode == KeyEvent.VK_ENTER) {
             gameManager.setDifficulty(DifficultyLevel.values()[selection]);
             startNewGame();
-        } else if (e.getKeyCode() == KeyEvent.VK_ESCAPE) {
-            gameManager.setGameState(GameState.MAIN_MENU);
-            gameManager.getInputManager().setMenuSelection(0);
+        } else if (keyCode == KeyEvent.VK_ESCAPE) {
+            gameManager.returnToMenu();
         }
     }
 
-    private void handlePauseMenuInput(KeyEvent e) {
-        int selection = gameManager.getInputManager().handleMenuInput(e, 3);
+    private void handlePauseMenuInput(int keyCode) {
+        int selection = gameManager.getInputManager().handleMenuInput(keyCode, 3);
 
-        if (e.getKeyCode() == KeyEvent.VK_ENTER) {
+        if (keyCode == KeyEvent.VK_ENTER) {
             switch (selection) {
-                case 0 -> {
-                    gameManager.setGameState(GameState.PLAYING);
-                    gameTimerObj.start();
-                }
-                case 1 -> {
-                    gameManager.setGameState(GameState.MAIN_MENU);
-                    gameTimerObj.stop();
-                    gameManager.getInputManager().setMenuSelection(0);
-                }
+                case 0 -> gameManager.resume();
+                case 1 -> gameManager.returnToMenu();
                 case 2 -> System.exit(0);
             }
-        } else if (e.getKeyCode() == KeyEvent.VK_ESCAPE) {
-            gameManager.setGameState(GameState.PLAYING);
-            gameTimerObj.start();
+        } else if (keyCode == KeyEvent.VK_ESCAPE) {
+            gameManager.resume();
         }
     }
 
-    private void handleGameOverInput(KeyEvent e) {
-        if (e.getKeyCode() == KeyEvent.VK_R) {
+    private void handleGameOverInput(int keyCode) {
+        if (keyCode == KeyEvent.VK_R) {
             startNewGame();
-        } else if (e.getKeyCode() == KeyEvent.VK_ESCAPE) {
-            gameManager.setGameState(GameState.MAIN_MENU);
-            gameManager.getInputManager().setMenuSelection(0);
+        } else if (keyCode == KeyEvent.VK_ESCAPE) {
+            gameManager.returnToMenu();
         }
     }
 
     private void startNewGame() {
         gameManager.setGameState(GameState.COUNTDOWN);
+        if (recordPath != null) {
+            saveRecording();
+            gameManager.reseed(GameRandom.newSeed());
+        }
         gameManager.startNewGame();
-        countdownTimer = GameConstants.COUNTDOWN_TIME;
-        transitionCountdown = GameConstants.LEVEL_TRANSITION_TIME;
-        countdownTimerObj.start();
+        if (recordPath != null) {
+            recorder = new ReplayRecorder(gameManager);
+            GameLogger.log(LogEvent.REPLAY_RECORDING, recordPath.toString());
+        }
+        gameManager.startCountdown();
+    }
+
+    private void saveRecording() {
+        ReplayRecorder finished = recorder;
+        recorder = null;
+        if (finished != null && finished.getTickCount() > 0) {
+            finished.save(recordPath);
+        }
     }
 
     @Override
     public void keyReleased(KeyEvent e) {
-        gameManager.getInputManager().keyReleased(e.getKeyCode());
+        if (replay != null)
+            return;
+        gameManager.getInputManager().enqueue(e.getKeyCode(), false, e.getWhen());
     }
 
     @Override
@@ -874,33 +374,121 @@ public class CarRaceMain extends JFrame implements KeyListener, ActionListener {
     }
 
     @Override
-    public void actionPerformed(ActionEvent e) {
-        if (e.getSource() == mainTimer) {
-            try {
+    public void tick() {
+        try {
+            int events = gameManager.getInputManager().sample(keyInput);
 
-                if (gameManager.getGameState() == GameState.PLAYING) {
-                    gameManager.getInputManager().handleMovement(
-                            gameManager.getPlayer1(),
-                            gameManager.getPlayer2(),
-                            gameManager.getGameState());
+            if (replay != null && !replay.apply(gameManager)) {
+                publishSnapshot();
+                return;
+            }
+
+            gameManager.tick();
+            GameState state = gameManager.getGameState();
+
+            ReplayRecorder active = recorder;
+            if (active != null) {
+                active.record(gameManager);
+                if (state == GameState.GAME_OVER || state == GameState.MAIN_MENU) {
+                    saveRecording();
                 }
+            }
+
+            if (events == 0 && state == publishedState && RenderManager.isIdle(state)) {
+                return;
+            }
+            publishSnapshot();
+        } catch (Exception ex) {
+            System.err.println("❌ Error in game loop: " + ex.getMessage());
+            if (GameConstants.DEBUG_MODE) {
+                ex.printStackTrace();
+            }
+        }
+    }
 
-                gameManager.update();
+    private void publishSnapshot() {
+        WorldSnapshot snapshot = snapshots.getBackBuffer();
+        snapshot.capture(gameManager);
+        if (gameLoop != null) {
+            snapshot.setLoopStats(gameLoop.getTotalTicks(), gameLoop.getDroppedTicks());
+        }
+        snapshots.publish();
 
-                gameManager.getInputManager().clearJustPressed();
+        if (gameLoop != null) {
+            publishedState = gameManager.getGameState();
+            gameLoop.setRenderOnDemand(RenderManager.isIdle(publishedState));
+            gameLoop.requestRender();
+        }
+    }
 
-                renderGame();
-                gamePanel.repaint();
+    @Override
+    public void render(double interpolation) {
+        WorldSnapshot frame = snapshots.acquire();
+        if (!renderManager.needsRender(frame)) {
+            return;
+        }
+
+        BufferStrategy strategy = bufferStrategy;
+        GamePanel panel = gamePanel;
 
-            } catch (Exception ex) {
-                System.err.println("❌ Error in game loop: " + ex.getMessage());
-                if (GameConstants.DEBUG_MODE) {
-                    ex.printStackTrace();
+        try {
+            if (strategy != null) {
+                presentActiveFrame(strategy, frame, interpolation);
+            } else if (panel != null) {
+                synchronized (backBuffer) {
+                    renderManager.render(bufferGraphics, frame, interpolation);
                 }
+                long presentStart = gameManager.getMetrics().start();
+                panel.repaint();
+                gameManager.getMetrics().stop(FramePhase.PRESENT, presentStart);
+            }
+        } catch (IllegalStateException ex) {
+            System.err.println("❌ Error presenting frame: " + ex.getMessage());
+            bufferStrategy = null;
+            SwingUtilities.invokeLater(this::fallBackToRepaint);
+        } catch (Exception ex) {
+            System.err.println("❌ Error rendering frame: " + ex.getMessage());
+            if (GameConstants.DEBUG_MODE) {
+                ex.printStackTrace();
             }
         }
     }
 
+    private void presentActiveFrame(BufferStrategy strategy, WorldSnapshot frame, double interpolation) {
+        do {
+            do {
+                Graphics2D g = (Graphics2D) strategy.getDrawGraphics();
+                try {
+                    applyRenderingHints(g);
+                    renderManager.render(g, frame, interpolation);
+                } finally {
+                    g.dispose();
+                }
+            } while (strategy.contentsRestored());
+
+            long presentStart = gameManager.getMetrics().start();
+            strategy.show();
+            gameManager.getMetrics().stop(FramePhase.PRESENT, presentStart);
+        } while (strategy.contentsLost());
+
+        Toolkit.getDefaultToolkit().sync();
+    }
+
+    private class GameCanvas extends Canvas {
+        private static final long serialVersionUID = 1L;
+
+        public GameCanvas() {
+            setIgnoreRepaint(true);
+            setBackground(GameConstants.GRASS_COLOR);
+            setFocusable(true);
+        }
+
+        @Override
+        public Dimension getPreferredSize() {
+            return new Dimension(GameConstants.SCREEN_WIDTH, GameConstants.SCREEN_HEIGHT);
+        }
+    }
+
     private class GamePanel extends JPanel {
         public GamePanel() {
             setDoubleBuffered(false);
@@ -911,8 +499,9 @@ public class CarRaceMain extends JFrame implements KeyListener, ActionListener {
         @Override
         protected void paintComponent(Graphics g) {
             if (backBuffer != null) {
-
-                g.drawImage(backBuffer, 0, 0, this);
+                synchronized (backBuffer) {
+                    g.drawImage(backBuffer, 0, 0, this);
+                }
             }
         }
 
@@ -928,17 +517,40 @@ public class CarRaceMain extends JFrame implements KeyListener, ActionListener {
         System.setProperty("sun.java2d.ddforcevram", "true");
         System.setProperty("sun.java2d.opengl", "true");
 
+        Path recordPath = null;
+        ReplayPlayer replay = null;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--record" -> recordPath = Paths.get(args[++i]);
+                    case "--replay" -> {
+                        replay = ReplayPlayer.load(Paths.get(args[++i]));
+                        if (replay == null) {
+                            throw new IllegalArgumentException("Replay file could not be loaded: " + args[i]);
+                        }
+                    }
+                    default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+                }
+            }
+        } catch (RuntimeException e) {
+            System.err.println("❌ " + e.getMessage());
+            System.err.println("Usage: java CarRaceMain [--record FILE | --replay FILE]");
+            System.exit(1);
+        }
+
+        final Path record = recordPath;
+        final ReplayPlayer playback = replay;
         SwingUtilities.invokeLater(() -> {
             try {
                 UIManager.setLookAndFeel(UIManager.getSystemLookAndFeelClassName());
-                new CarRaceMain();
+                new CarRaceMain(record, playback);
 
             } catch (Exception e) {
                 System.err.println("❌ Failed to start application: " + e.getMessage());
                 e.printStackTrace();
 
                 try {
-                    new CarRaceMain();
+                    new CarRaceMain(record, playback);
                 } catch (Exception fallbackError) {
                     System.err.println("❌ Fallback also failed: " + fallbackError.getMessage());
                     System.exit(1);
@@ -0,0 +1,305 @@
+import managers.FrameMetrics;
+import managers.GameLogger;
+import managers.GameManager;
+import managers.GameRandom;
+import managers.InputManager;
+import managers.ReplayPlayer;
+import managers.ReplayRecorder;
+import enums.*;
+import interfaces.GameConstants;
+import models.*;
+
+import java.awt.event.KeyEvent;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+public class HeadlessSimulation {
+
+    private static final int LOOKAHEAD_DISTANCE = 250;
+
+    private final DifficultyLevel difficulty;
+    private final long maxTicks;
+    private final FrameMetrics metrics;
+    private final long seed;
+
+    private long ticksSimulated;
+    private int highestLevel;
+    private int survivalTime;
+    private int livesLeft;
+    private long stateHash;
+    private ReplayRecorder recorder;
+
+    public HeadlessSimulation(DifficultyLevel difficulty, long maxTicks) {
+        this(difficulty, maxTicks, new FrameMetrics());
+    }
+
+    public HeadlessSimulation(DifficultyLevel difficulty, long maxTicks, FrameMetrics metrics) {
+        this(difficulty, maxTicks, metrics, GameRandom.newSeed());
+    }
+
+    public HeadlessSimulation(DifficultyLevel difficulty, long maxTicks, FrameMetrics metrics, long seed) {
+        this.difficulty = difficulty != null ? difficulty : DifficultyLevel.MEDIUM;
+        this.maxTicks = Math.max(1, maxTicks);
+        this.metrics = metrics;
+        this.seed = seed;
+    }
+
+    public void run() {
+        run(null);
+    }
+
+    public void run(Path recordPath) {
+        GameManager gameManager = new GameManager(metrics, seed);
+        gameManager.setDifficulty(difficulty);
+        gameManager.reseed(seed);
+        gameManager.startNewGame();
+        recorder = recordPath != null ? new ReplayRecorder(gameManager) : null;
+        gameManager.beginLevel();
+
+        for (long tick = 0; tick < maxTicks; tick++) {
+            if (gameManager.getGameState() == GameState.LEVEL_TRANSITION) {
+                gameManager.skipTransition();
+            }
+            steer(gameManager, gameManager.getPlayer1(), gameManager.getPlayer2());
+            gameManager.tick();
+            ticksSimulated++;
+            if (recorder != null) {
+                recorder.record(gameManager);
+            }
+            if (tick == maxTicks - 1 || gameManager.getGameState() == GameState.GAME_OVER) {
+                stateHash = hashState(gameManager);
+                break;
+            }
+        }
+
+        highestLevel = gameManager.getCurrentLevel();
+        survivalTime = gameManager.getTotalSurvivalTime();
+        livesLeft = gameManager.getPlayer1().getLives() + gameManager.getPlayer2().getLives();
+
+        if (recorder != null) {
+            recorder.save(recordPath);
+        }
+    }
+
+    public static HeadlessSimulation replay(ReplayPlayer replay, FrameMetrics metrics) {
+        HeadlessSimulation simulation = new HeadlessSimulation(replay.getDifficulty(),
+                replay.getTickCount(), metrics, replay.getSeed());
+        GameManager gameManager = replay.createGameManager(metrics);
+
+        while (replay.apply(gameManager)) {
+            gameManager.tick();
+            simulation.ticksSimulated++;
+        }
+
+        simulation.stateHash = simulation.hashState(gameManager);
+        simulation.highestLevel = gameManager.getCurrentLevel();
+        simulation.survivalTime = gameManager.getTotalSurvivalTime();
+        simulation.livesLeft = gameManager.getPlayer1().getLives() + gameManager.getPlayer2().getLives();
+        return simulation;
+    }
+
+    private long hashState(GameManager gameManager) {
+        long hash = ticksSimulated;
+        hash = hash * 31 + gameManager.getCurrentLevel();
+        hash = hash * 31 + gameManager.getPlayer1().getLives();
+        hash = hash * 31 + gameManager.getPlayer2().getLives();
+        hash = hash * 31 + Double.doubleToLongBits(gameManager.getPlayer1().getX());
+        hash = hash * 31 + Double.doubleToLongBits(gameManager.getPlayer1().getY());
+        hash = hash * 31 + Double.doubleToLongBits(gameManager.getPlayer2().getX());
+        hash = hash * 31 + Double.doubleToLongBits(gameManager.getPlayer2().getY());
+
+        ObstacleField obstacles = gameManager.getObstacles();
+        for (int i = 0; i < obstacles.size(); i++) {
+            hash = hash * 31 + Double.doubleToLongBits(obstacles.getX(i));
+            hash = hash * 31 + Double.doubleToLongBits(obstacles.getY(i));
+            hash = hash * 31 + Double.doubleToLongBits(obstacles.getSpeed(i));
+        }
+
+        ParticleSystem particles = gameManager.getParticles();
+        hash = hash * 31 + particles.size();
+        hash = hash * 31 + particles.getEmittedCount();
+        return hash;
+    }
+
+    private void steer(GameManager gameManager, Player player1, Player player2) {
+        InputManager input = gameManager.getInputManager();
+
+        int direction1 = chooseDirection(gameManager, player1,
+                GameConstants.LEFT_BOUNDARY, GameConstants.CENTER_DIVIDER_LEFT);
+        int direction2 = chooseDirection(gameManager, player2,
+                GameConstants.CENTER_DIVIDER_RIGHT, GameConstants.RIGHT_BOUNDARY);
+
+        applyDirection(input, direction1, KeyEvent.VK_A, KeyEvent.VK_D);
+        applyDirection(input, direction2, KeyEvent.VK_LEFT, KeyEvent.VK_RIGHT);
+    }
+
+    private int chooseDirection(GameManager gameManager, Player player, int minX, int maxX) {
+        if (!player.isAlive())
+            return 0;
+
+        ObstacleField obstacles = gameManager.getObstacles();
+        int threat = -1;
+        for (int i = 0; i < obstacles.size(); i++) {
+            if (!obstacles.isActive(i))
+                continue;
+
+            double obstacleX = obstacles.getX(i);
+            double obstacleY = obstacles.getY(i);
+            boolean ahead = obstacleY + obstacles.getHeight() > player.getY() - LOOKAHEAD_DISTANCE &&
+                    obstacleY < player.getY() + player.getHeight();
+            boolean overlapping = obstacleX < player.getX() + player.getWidth() &&
+                    obstacleX + obstacles.getWidth() > player.getX();
+
+            if (ahead && overlapping && (threat < 0 || obstacleY > obstacles.getY(threat))) {
+                threat = i;
+            }
+        }
+
+        if (threat < 0)
+            return 0;
+
+        double roomLeft = obstacles.getX(threat) - minX;
+        double roomRight = maxX - (obstacles.getX(threat) + obstacles.getWidth());
+        return roomLeft > roomRight ? -1 : 1;
+    }
+
+    private void applyDirection(InputManager input, int direction, int leftKey, int rightKey) {
+        if (direction < 0) {
+            input.keyReleased(rightKey);
+            input.keyPressed(leftKey);
+        } else if (direction > 0) {
+            input.keyReleased(leftKey);
+            input.keyPressed(rightKey);
+        } else {
+            input.keyReleased(leftKey);
+            input.keyReleased(rightKey);
+        }
+    }
+
+    public long getTicksSimulated() {
+        return ticksSimulated;
+    }
+
+    public int getHighestLevel() {
+        return highestLevel;
+    }
+
+    public int getSurvivalTime() {
+        return survivalTime;
+    }
+
+    public int getLivesLeft() {
+        return livesLeft;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public long getStateHash() {
+        return stateHash;
+    }
+
+    public static void main(String[] args) {
+        System.setProperty("java.awt.headless", "true");
+
+        long ticks = 60L * 60 * GameConstants.TICK_RATE;
+        int games = 1;
+        DifficultyLevel difficulty = DifficultyLevel.MEDIUM;
+        boolean verbose = false;
+        boolean showMetrics = false;
+        long seed = GameRandom.newSeed();
+        Path recordPath = null;
+        Path replayPath = null;
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--ticks" -> ticks = Long.parseLong(args[++i]);
+                    case "--games" -> games = Integer.parseInt(args[++i]);
+                    case "--difficulty" -> difficulty = DifficultyLevel.valueOf(args[++i].toUpperCase());
+                    case "--verbose" -> verbose = true;
+                    case "--metrics" -> showMetrics = true;
+                    case "--seed" -> seed = Long.parseLong(args[++i]);
+                    case "--record" -> recordPath = Paths.get(args[++i]);
+                    case "--replay" -> replayPath = Paths.get(args[++i]);
+                    default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+                }
+            }
+            if (recordPath != null && games != 1) {
+                throw new IllegalArgumentException("--record needs --games 1");
+            }
+        } catch (RuntimeException e) {
+            System.err.println("❌ " + e.getMessage());
+            System.err.println("Usage: java HeadlessSimulation [--ticks N] [--games N] "
+                    + "[--difficulty EASY|MEDIUM|HARD] [--seed N] [--record FILE | --replay FILE] [--verbose] [--metrics]");
+            System.exit(1);
+        }
+
+        if (!verbose) {
+            GameLogger.setLevel(LogLevel.OFF);
+        }
+
+        ReplayPlayer replay = null;
+        if (replayPath != null) {
+            replay = ReplayPlayer.load(replayPath);
+            if (replay == null) {
+                GameLogger.flush();
+                System.err.println("❌ Error loading replay: " + replayPath);
+                System.exit(1);
+            }
+            games = 1;
+            seed = replay.getSeed();
+            difficulty = replay.getDifficulty();
+        }
+
+        long totalTicks = 0;
+        long totalLevels = 0;
+        long totalSurvival = 0;
+        long totalLivesLeft = 0;
+        long checksum = 0;
+        GameRandom gameSeeds = new GameRandom(seed);
+        FrameMetrics metrics = new FrameMetrics();
+        metrics.setEnabled(showMetrics);
+        long startTime = System.nanoTime();
+
+        try {
+            for (int game = 0; game < games; game++) {
+                HeadlessSimulation simulation;
+                if (replay != null) {
+                    simulation = replay(replay, metrics);
+                } else {
+                    simulation = new HeadlessSimulation(difficulty, ticks, metrics, gameSeeds.nextLong());
+                    simulation.run(recordPath);
+                }
+
+                totalTicks += simulation.getTicksSimulated();
+                totalLevels += simulation.getHighestLevel();
+                totalSurvival += simulation.getSurvivalTime();
+                totalLivesLeft += simulation.getLivesLeft();
+                checksum = checksum * 31 + simulation.getStateHash();
+            }
+        } finally {
+            GameLogger.flush();
+        }
+
+        double elapsedSeconds = Math.max(1e-9, (System.nanoTime() - startTime) / 1e9);
+
+        System.out.println("📊 HEADLESS SIMULATION (" + difficulty + ")");
+        System.out.println("   Games: " + games + " | Ticks: " + totalTicks);
+        System.out.println(String.format("   Elapsed: %.2fs | %.0f ticks/s | %.1f games/min",
+                elapsedSeconds, totalTicks / elapsedSeconds, games * 60.0 / elapsedSeconds));
+        System.out.println(String.format("   Avg level: %.2f | Avg survival: %.1fs | Avg lives left: %.2f",
+                (double) totalLevels / games, (double) totalSurvival / games, (double) totalLivesLeft / games));
+        System.out.println(String.format("   Seed: %d | Checksum: %016x", seed, checksum));
+
+        if (showMetrics) {
+            System.out.println("⏱️ TICK PHASES");
+            for (FramePhase phase : FramePhase.values()) {
+                if (metrics.getHistogram(phase).getCount() > 0) {
+                    System.out.println("   " + metrics.formatSummary(phase));
+                }
+            }
+        }
+    }
+}
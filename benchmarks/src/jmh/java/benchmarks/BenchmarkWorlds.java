@@ -0,0 +1,52 @@
+package benchmarks;
+
+import enums.DifficultyLevel;
+import enums.GameState;
+import enums.LogLevel;
+import interfaces.GameConstants;
+import managers.AssetManager;
+import managers.GameLogger;
+import managers.GameManager;
+import managers.GameRandom;
+import managers.ObstaclePool;
+import java.util.Random;
+
+final class BenchmarkWorlds {
+
+    static final long SEED = 42L;
+
+    private BenchmarkWorlds() {
+    }
+
+    static void quiet() {
+        GameLogger.setLevel(LogLevel.OFF);
+        AssetManager.setEnabled(false);
+    }
+
+    static GameManager playingGame(DifficultyLevel difficulty, int obstacleCount) {
+        quiet();
+
+        GameManager gameManager = new GameManager(null, SEED);
+        gameManager.setDifficulty(difficulty);
+        gameManager.startNewGame();
+        gameManager.setGameState(GameState.PLAYING);
+
+        fillObstacles(gameManager, obstacleCount, new GameRandom(SEED));
+        return gameManager;
+    }
+
+    static void fillObstacles(GameManager gameManager, int obstacleCount, Random random) {
+        ObstaclePool pool = gameManager.getObstaclePool();
+        pool.releaseAll();
+        pool.prewarm(obstacleCount);
+
+        int roadWidth = GameConstants.RIGHT_BOUNDARY - GameConstants.LEFT_BOUNDARY - GameConstants.CAR_WIDTH;
+        int spawnDepth = Math.max(GameConstants.SCREEN_HEIGHT, obstacleCount * 4);
+
+        for (int i = 0; i < obstacleCount; i++) {
+            double x = GameConstants.LEFT_BOUNDARY + random.nextInt(roadWidth);
+            double y = -random.nextInt(spawnDepth);
+            pool.spawn(x, y, 3 + random.nextDouble() * 6, random.nextInt(4));
+        }
+    }
+}
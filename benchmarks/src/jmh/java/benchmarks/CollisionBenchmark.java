@@ -0,0 +1,54 @@
+package benchmarks;
+
+import enums.DifficultyLevel;
+import managers.CollisionManager;
+import managers.GameManager;
+import models.ObstacleField;
+import models.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CollisionBenchmark {
+
+    @Param({ "4", "40", "400", "4000" })
+    public int obstacleCount;
+
+    private GameManager gameManager;
+    private WorldTemplate template;
+    private CollisionManager collisionManager;
+    private ObstacleField obstacles;
+    private Player player1;
+    private Player player2;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        gameManager = BenchmarkWorlds.playingGame(DifficultyLevel.HARD, obstacleCount);
+        template = new WorldTemplate(gameManager);
+        collisionManager = new CollisionManager();
+        obstacles = gameManager.getObstacles();
+        player1 = gameManager.getPlayer1();
+        player2 = gameManager.getPlayer2();
+    }
+
+    @Setup(Level.Invocation)
+    public void restoreWorld() {
+        template.restore(gameManager);
+    }
+
+    @Benchmark
+    public ObstacleField checkAllCollisions() {
+        collisionManager.checkAllCollisions(player1, player2, obstacles, gameManager);
+        return obstacles;
+    }
+}
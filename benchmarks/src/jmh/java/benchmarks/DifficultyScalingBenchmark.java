@@ -0,0 +1,31 @@
+package benchmarks;
+
+import enums.DifficultyLevel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class DifficultyScalingBenchmark {
+
+    private static final int MAX_LEVEL = 50;
+
+    @Benchmark
+    public long scaleAllLevels() {
+        long checksum = 0;
+        for (DifficultyLevel difficulty : DifficultyLevel.values()) {
+            for (int level = 1; level <= MAX_LEVEL; level++) {
+                checksum += difficulty.getObstacleCount(level);
+                checksum += difficulty.getMinSpeed(level);
+                checksum += difficulty.getMaxSpeed(level);
+            }
+        }
+        return checksum;
+    }
+}
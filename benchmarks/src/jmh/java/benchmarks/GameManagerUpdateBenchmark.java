@@ -0,0 +1,49 @@
+package benchmarks;
+
+import enums.DifficultyLevel;
+import managers.GameManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class GameManagerUpdateBenchmark {
+
+    @Param({ "4", "10", "100", "1000", "10000" })
+    public int obstacleCount;
+
+    private GameManager gameManager;
+    private WorldTemplate template;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        gameManager = BenchmarkWorlds.playingGame(DifficultyLevel.HARD, obstacleCount);
+        template = new WorldTemplate(gameManager);
+    }
+
+    @Setup(Level.Invocation)
+    public void restoreWorld() {
+        template.restore(gameManager);
+    }
+
+    @Benchmark
+    public GameManager update() {
+        gameManager.update();
+        return gameManager;
+    }
+
+    @Benchmark
+    public GameManager tick() {
+        gameManager.tick();
+        return gameManager;
+    }
+}
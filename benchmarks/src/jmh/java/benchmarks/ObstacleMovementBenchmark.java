@@ -0,0 +1,60 @@
+package benchmarks;
+
+import enums.DifficultyLevel;
+import interfaces.GameConstants;
+import managers.GameRandom;
+import models.ObstacleField;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ObstacleMovementBenchmark {
+
+    @Param({ "10", "1000" })
+    public int obstacleCount;
+
+    private ObstacleField field;
+    private ObstacleField template;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkWorlds.quiet();
+        Random random = new GameRandom(BenchmarkWorlds.SEED);
+
+        field = new ObstacleField(random, obstacleCount);
+        field.setLevel(DifficultyLevel.HARD, 5);
+
+        for (int i = 0; i < obstacleCount; i++) {
+            double x = GameConstants.LEFT_BOUNDARY + random.nextInt(1000);
+            double y = -random.nextInt(GameConstants.SCREEN_HEIGHT);
+            field.addForLevel(x, y, i);
+        }
+
+        template = new ObstacleField(null, obstacleCount);
+        template.copyFrom(field);
+    }
+
+    @Setup(Level.Invocation)
+    public void restoreField() {
+        field.copyFrom(template);
+    }
+
+    @Benchmark
+    public ObstacleField obstacleFieldUpdate() {
+        for (int i = 0; i < field.size(); i++) {
+            field.update(i);
+        }
+        return field;
+    }
+}
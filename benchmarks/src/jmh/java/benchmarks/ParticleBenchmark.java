@@ -0,0 +1,93 @@
+package benchmarks;
+
+import interfaces.GameConstants;
+import managers.GameRandom;
+import models.Particle;
+import models.ParticleSystem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ParticleBenchmark {
+
+    private final Particle[] particles = new Particle[GameConstants.MAX_PARTICLES];
+    private ParticleSystem particleSystem;
+    private ParticleSystem crashCloud;
+    private BufferedImage frameBuffer;
+    private Graphics2D graphics;
+    private Random random;
+
+    @Setup
+    public void setUp() {
+        BenchmarkWorlds.quiet();
+        random = new GameRandom(BenchmarkWorlds.SEED);
+
+        for (int i = 0; i < particles.length; i++) {
+            particles[i] = new Particle(650, 450, Color.ORANGE, random);
+        }
+        particleSystem = new ParticleSystem(random);
+
+        crashCloud = new ParticleSystem(random);
+        while (crashCloud.size() < GameConstants.MAX_PARTICLES) {
+            crashCloud.emitCrash(200 + random.nextInt(900), 200 + random.nextInt(500));
+        }
+        for (int i = 0; i < 5; i++) {
+            crashCloud.update();
+        }
+
+        frameBuffer = new BufferedImage(GameConstants.SCREEN_WIDTH, GameConstants.SCREEN_HEIGHT,
+                BufferedImage.TYPE_INT_RGB);
+        graphics = frameBuffer.createGraphics();
+    }
+
+    @TearDown
+    public void tearDown() {
+        graphics.dispose();
+    }
+
+    @Benchmark
+    public Particle[] particleUpdate() {
+        for (Particle particle : particles) {
+            particle.update();
+            if (particle.isDead()) {
+                particle.reset(650, 450, (random.nextDouble() - 0.5) * 10, (random.nextDouble() - 0.5) * 10,
+                        Color.ORANGE, GameConstants.PARTICLE_LIFE);
+            }
+        }
+        return particles;
+    }
+
+    @Benchmark
+    public ParticleSystem particleSystemUpdate() {
+        if (particleSystem.size() < GameConstants.MAX_PARTICLES / 2) {
+            particleSystem.emitCrash(650, 450);
+        }
+        particleSystem.update();
+        return particleSystem;
+    }
+
+    @Benchmark
+    public BufferedImage particleDrawDirect() {
+        crashCloud.draw(graphics, frameBuffer);
+        return frameBuffer;
+    }
+
+    @Benchmark
+    public BufferedImage particleDrawOverlay() {
+        crashCloud.draw(graphics, null);
+        return frameBuffer;
+    }
+}
@@ -0,0 +1,129 @@
+package benchmarks;
+
+import enums.DifficultyLevel;
+import enums.GameState;
+import enums.QualityTier;
+import interfaces.GameConstants;
+import managers.AssetManager;
+import managers.GameManager;
+import managers.RenderManager;
+import models.ObstacleField;
+import models.WorldSnapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RenderSceneBenchmark {
+
+    private static final int WARM_TICKS = 30;
+    private static final int MAX_LEVEL = 50;
+
+    public enum Scene {
+        EMPTY_ROAD,
+        MAX_TRAFFIC,
+        CRASH_STORM,
+        COUNTDOWN,
+        PAUSED
+    }
+
+    @Param({ "EMPTY_ROAD", "MAX_TRAFFIC", "CRASH_STORM", "COUNTDOWN", "PAUSED" })
+    public Scene scene;
+
+    private BufferedImage frameBuffer;
+    private Graphics2D graphics;
+    private RenderManager renderManager;
+    private WorldSnapshot snapshot;
+
+    @Setup
+    public void setUp() {
+        BenchmarkWorlds.quiet();
+        AssetManager.setEnabled(true);
+
+        GameManager gameManager = buildScene(scene);
+        snapshot = new WorldSnapshot();
+        snapshot.capture(gameManager);
+        snapshot.setOverlay(GameConstants.COUNTDOWN_TIME, GameConstants.LEVEL_TRANSITION_TIME);
+
+        frameBuffer = new BufferedImage(GameConstants.SCREEN_WIDTH, GameConstants.SCREEN_HEIGHT,
+                BufferedImage.TYPE_INT_RGB);
+        graphics = frameBuffer.createGraphics();
+        graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_SPEED);
+        graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_OFF);
+        graphics.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+
+        renderManager = new RenderManager();
+        renderManager.getQualityGovernor().setEnabled(false);
+        renderManager.getQualityGovernor().setTier(QualityTier.FULL);
+    }
+
+    @TearDown
+    public void tearDown() {
+        graphics.dispose();
+    }
+
+    private GameManager buildScene(Scene scene) {
+        GameManager gameManager = BenchmarkWorlds.playingGame(DifficultyLevel.HARD, 0);
+
+        if (scene == Scene.MAX_TRAFFIC) {
+            while (gameManager.getCurrentLevel() < MAX_LEVEL) {
+                gameManager.nextLevel();
+            }
+        } else {
+            gameManager.startNewGame();
+        }
+
+        gameManager.setGameState(GameState.PLAYING);
+        for (int i = 0; i < WARM_TICKS; i++) {
+            gameManager.tick();
+        }
+
+        switch (scene) {
+            case MAX_TRAFFIC -> spreadAcrossRoad(gameManager.getObstacles());
+            case EMPTY_ROAD -> {
+                gameManager.getObstaclePool().releaseAll();
+                gameManager.getParticles().clear();
+            }
+            case CRASH_STORM -> {
+                while (gameManager.getParticles().size() < GameConstants.MAX_PARTICLES) {
+                    gameManager.createCrashEffect(
+                            GameConstants.LEFT_BOUNDARY + gameManager.getParticles().size() * 4,
+                            GameConstants.SCREEN_HEIGHT / 2.0);
+                }
+            }
+            case COUNTDOWN -> gameManager.setGameState(GameState.COUNTDOWN);
+            case PAUSED -> gameManager.setGameState(GameState.PAUSED);
+            default -> {
+            }
+        }
+        return gameManager;
+    }
+
+    private void spreadAcrossRoad(ObstacleField obstacles) {
+        int count = obstacles.size();
+        double spacing = (GameConstants.SCREEN_HEIGHT + obstacles.getHeight()) / Math.max(1, count);
+
+        for (int i = 0; i < count; i++) {
+            obstacles.setPosition(i, obstacles.getX(i), i * spacing - obstacles.getHeight());
+            obstacles.setActive(i, true);
+        }
+    }
+
+    @Benchmark
+    public BufferedImage renderFrame() {
+        renderManager.render(graphics, snapshot, 0.5);
+        return frameBuffer;
+    }
+}
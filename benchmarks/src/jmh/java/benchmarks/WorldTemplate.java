@@ -0,0 +1,48 @@
+package benchmarks;
+
+import enums.GameState;
+import managers.GameManager;
+import models.ObstacleField;
+import models.Player;
+import models.TreeObject;
+import java.util.ArrayList;
+import java.util.List;
+
+final class WorldTemplate {
+
+    private final long seed;
+    private final GameState state;
+    private final ObstacleField obstacles;
+    private final Player player1;
+    private final Player player2;
+    private final List<TreeObject> trees = new ArrayList<>();
+
+    WorldTemplate(GameManager gameManager) {
+        seed = gameManager.getSeed();
+        state = gameManager.getGameState();
+
+        ObstacleField source = gameManager.getObstacles();
+        obstacles = new ObstacleField(null, Math.max(1, source.size()));
+        obstacles.copyFrom(source);
+
+        player1 = new Player(gameManager.getPlayer1());
+        player2 = new Player(gameManager.getPlayer2());
+        for (TreeObject tree : gameManager.getTrees()) {
+            trees.add(new TreeObject(tree));
+        }
+    }
+
+    void restore(GameManager gameManager) {
+        gameManager.reseed(seed);
+        gameManager.setGameState(state);
+        gameManager.getObstacles().copyFrom(obstacles);
+        gameManager.getPlayer1().copyFrom(player1);
+        gameManager.getPlayer2().copyFrom(player2);
+        gameManager.getParticles().clear();
+
+        List<TreeObject> live = gameManager.getTrees();
+        for (int i = 0; i < trees.size() && i < live.size(); i++) {
+            live.get(i).copyFrom(trees.get(i));
+        }
+    }
+}
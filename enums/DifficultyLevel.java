@@ -1,5 +1,7 @@
 package enums;
 
+import interfaces.GameConstants;
+
 public enum DifficultyLevel {
     EASY(3, 3, 6, "MUDAH - Berkendara Santai"),
     MEDIUM(4, 5, 10, "SEDANG - Lalu Lintas Kota"),
@@ -19,7 +21,7 @@ public enum DifficultyLevel {
 
     public int getObstacleCount(int level) {
         int obstacles = baseObstacleCount + ((level - 1) * 2);
-        return Math.min(obstacles, 25);
+        return Math.min(obstacles, GameConstants.MAX_OBSTACLE_COUNT);
     }
 
     public int getMinSpeed(int level) {
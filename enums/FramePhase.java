@@ -0,0 +1,22 @@
+package enums;
+
+public enum FramePhase {
+    INPUT("Input"),
+    UPDATE_OBSTACLES("Obstacles"),
+    UPDATE_PARTICLES("Particles"),
+    UPDATE_TREES("Trees"),
+    CHECK_COLLISIONS("Collisions"),
+    CLEANUP("Cleanup"),
+    TICK("Tick"),
+    BACKGROUND("Background"),
+    OBJECTS("Objects"),
+    HUD("HUD"),
+    PRESENT("Present"),
+    FRAME("Frame");
+
+    public final String label;
+
+    FramePhase(String label) {
+        this.label = label;
+    }
+}
@@ -0,0 +1,11 @@
+package enums;
+
+public enum GameCommand {
+    START_COUNTDOWN,
+    SKIP_COUNTDOWN,
+    BEGIN_LEVEL,
+    SKIP_TRANSITION,
+    PAUSE,
+    RESUME,
+    RETURN_TO_MENU
+}
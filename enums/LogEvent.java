@@ -0,0 +1,74 @@
+package enums;
+
+public enum LogEvent {
+    MENU_SELECTION(LogLevel.INFO, "🎮 Menu selection: {0}"),
+    INPUTS_CLEARED(LogLevel.INFO, "🛑 All inputs cleared"),
+    INPUT_STATS(LogLevel.INFO, "📊 INPUT STATS:"),
+    INPUT_STATS_KEYS(LogLevel.INFO, "   Active keys: {0}"),
+    INPUT_STATS_MENU(LogLevel.INFO, "   Menu selection: {0}"),
+    INPUT_STATS_MOVING(LogLevel.INFO, "   Player {0} moving: {s}"),
+    INPUT_STATS_QUEUE(LogLevel.INFO, "   Queued events: {0} (dropped {1}) | Max latency: {2} ms"),
+
+    TREES_INITIALIZED(LogLevel.DEBUG, "✅ Trees initialized: {0} objects"),
+    OBSTACLE_RESPAWNED(LogLevel.INFO, "🔄 Obstacle respawned at lane {0} with speed {1.1}"),
+    OBSTACLE_RESPAWNED_SAFELY(LogLevel.DEBUG, "🔄 Obstacle respawned safely at ({0.1}, {1.1}) with {2}px free"),
+    OBSTACLE_RESPAWNED_SEPARATED(LogLevel.DEBUG, "🔄 Obstacle respawned with separation at lane {0}"),
+    OBSTACLE_FORCE_SPAWNED(LogLevel.DEBUG, "🆘 Obstacle force-spawned at safe distance"),
+    OBSTACLE_DEACTIVATED(LogLevel.DEBUG, "⚠️ Obstacle deactivated - couldn't find safe respawn position"),
+    OBSTACLE_SPAWNED(LogLevel.DEBUG, "✨ New obstacle spawned safely at lane {0} with {1}px free"),
+    OBSTACLE_SPAWN_GAVE_UP(LogLevel.DEBUG, "⚠️ Failed to spawn obstacle: all {0} lanes are full"),
+
+    COLLISION(LogLevel.INFO, "💥 COLLISION: {s}"),
+    BOUNDARY_VIOLATION(LogLevel.INFO, "🚫 BOUNDARY VIOLATION: {s}"),
+    PLAYER_COLLISION(LogLevel.INFO, "💥💥 PLAYER COLLISION!"),
+    COLLISION_DETECTED(LogLevel.INFO, "⚠️ Collision detected!"),
+
+    PLAYER_CREATED(LogLevel.INFO, "✅ Player created: {s} at ({0}, {1})"),
+    PLAYER_DAMAGED(LogLevel.INFO, "💥 {s} terkena damage! Nyawa tersisa: {0}"),
+    PLAYER_DEFEATED(LogLevel.INFO, "💀 {s} kalah!"),
+    PLAYER_STILL_INVULNERABLE(LogLevel.INFO, "🛡️ {s} masih invulnerable!"),
+    PLAYER_VULNERABLE(LogLevel.INFO, "🛡️ {s} tidak lagi invulnerable"),
+    PLAYER_LEVEL_COMPLETED(LogLevel.INFO, "🏆 {s} menyelesaikan level! Total: {0}"),
+    PLAYER_LEVEL_BONUS(LogLevel.INFO, "❤️ {s} mendapat bonus nyawa! Total: {0}"),
+    PLAYER_RESET(LogLevel.INFO, "🔄 {s} direset ke posisi ({0}, {1})"),
+    PLAYER_HEALED(LogLevel.INFO, "❤️ {s} heal +{0}! Nyawa: {1}"),
+    PLAYER_BONUS_LIFE(LogLevel.INFO, "🎁 {s} bonus life! Total: {0}"),
+
+    COUNTDOWN_SKIPPED(LogLevel.INFO, "⏩ Countdown skipped!"),
+    TRANSITION_SKIPPED(LogLevel.INFO, "⏩ Level transition skipped!"),
+
+    REPLAY_RECORDING(LogLevel.INFO, "⏺️ Recording replay to {s}"),
+    REPLAY_SAVED(LogLevel.INFO, "💾 Replay saved to {s} ({0} ticks, {1} bytes)"),
+    REPLAY_LOADED(LogLevel.INFO, "▶️ Replay loaded from {s} ({0} ticks)"),
+    REPLAY_FINISHED(LogLevel.INFO, "⏹️ Replay finished after {0} ticks"),
+    QUALITY_RESTORED(LogLevel.INFO, "📈 Quality raised to {s} (render {0.1} ms, budget {1.1} ms)"),
+    RENDER_THROTTLED(LogLevel.INFO, "🐢 Rendering throttled to {0} Hz while unfocused"),
+    RENDER_SUSPENDED(LogLevel.INFO, "⏸️ Rendering suspended while minimized"),
+    RENDER_RESUMED(LogLevel.INFO, "▶️ Rendering resumed at {0} Hz"),
+
+    ASSET_MISSING(LogLevel.WARN, "Warning: Could not load {s}.png from assets folder"),
+    QUALITY_TIER_SKIPPED(LogLevel.WARN, "⚠️ Quality tier {s} made rendering slower ({0.1} ms vs {1.1} ms), skipping it"),
+    QUALITY_DEGRADED(LogLevel.WARN, "📉 Quality lowered to {s} (render {0.1} ms, budget {1.1} ms)"),
+
+    TREES_INIT_FAILED(LogLevel.ERROR, "❌ Error initializing trees: {s}"),
+    UPDATE_FAILED(LogLevel.ERROR, "❌ Error in GameManager.update(): {s}"),
+    RESPAWN_FAILED(LogLevel.ERROR, "❌ Error respawning obstacle: {s}"),
+    SPAWN_FAILED(LogLevel.ERROR, "❌ Error spawning obstacle: {s}"),
+    PARTICLES_FAILED(LogLevel.ERROR, "❌ Error updating particles: {s}"),
+    TREES_FAILED(LogLevel.ERROR, "❌ Error updating trees: {s}"),
+    COLLISIONS_FAILED(LogLevel.ERROR, "❌ Error checking collisions: {s}"),
+    CLEANUP_FAILED(LogLevel.ERROR, "❌ Error cleaning up objects: {s}"),
+    COLLISION_HANDLING_FAILED(LogLevel.ERROR, "❌ Error handling collision: {s}"),
+    SIMULATION_LOOP_FAILED(LogLevel.ERROR, "❌ Error in simulation loop: {s}"),
+    RENDER_LOOP_FAILED(LogLevel.ERROR, "❌ Error in render loop: {s}"),
+    REPLAY_SAVE_FAILED(LogLevel.ERROR, "❌ Error saving replay: {s}"),
+    REPLAY_LOAD_FAILED(LogLevel.ERROR, "❌ Error loading replay: {s}");
+
+    public final LogLevel level;
+    public final String template;
+
+    LogEvent(LogLevel level, String template) {
+        this.level = level;
+        this.template = template;
+    }
+}
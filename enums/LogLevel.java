@@ -0,0 +1,9 @@
+package enums;
+
+public enum LogLevel {
+    DEBUG,
+    INFO,
+    WARN,
+    ERROR,
+    OFF
+}
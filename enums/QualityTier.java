@@ -0,0 +1,35 @@
+package enums;
+
+public enum QualityTier {
+    FULL("Full", 1.0, true, 1, 1, 1.0),
+    REDUCED_EFFECTS("Reduced effects", 0.5, false, 1, 1, 1.0),
+    SPARSE_SCENERY("Sparse scenery", 0.5, false, 2, 1, 1.0),
+    SLOW_HUD("Slow HUD", 0.5, false, 2, 6, 1.0),
+    LOW_RESOLUTION("Low resolution", 0.25, false, 2, 6, 0.75);
+
+    public final String label;
+    public final double particleRate;
+    public final boolean glow;
+    public final int sceneryStride;
+    public final int hudInterval;
+    public final double renderScale;
+
+    QualityTier(String label, double particleRate, boolean glow, int sceneryStride, int hudInterval,
+            double renderScale) {
+        this.label = label;
+        this.particleRate = particleRate;
+        this.glow = glow;
+        this.sceneryStride = sceneryStride;
+        this.hudInterval = hudInterval;
+        this.renderScale = renderScale;
+    }
+
+    public QualityTier lower() {
+        QualityTier[] tiers = values();
+        return tiers[Math.min(ordinal() + 1, tiers.length - 1)];
+    }
+
+    public QualityTier higher() {
+        return values()[Math.max(ordinal() - 1, 0)];
+    }
+}
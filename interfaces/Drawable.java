@@ -4,4 +4,8 @@ import java.awt.Graphics2D;
 
 public interface Drawable {
     void draw(Graphics2D g);
+
+    default void draw(Graphics2D g, double interpolation) {
+        draw(g);
+    }
 }
\ No newline at end of file
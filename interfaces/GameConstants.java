@@ -11,6 +11,8 @@ public interface GameConstants {
     int GAME_DURATION = 30;
     int COUNTDOWN_TIME = 3;
     int FRAME_RATE = 16;
+    int TICK_RATE = 60;
+    int MAX_SUB_STEPS = 5;
     int LEVEL_TRANSITION_TIME = 3;
 
     int LEFT_BOUNDARY = 35;
@@ -74,7 +76,6 @@ public interface GameConstants {
     double SFX_VOLUME = 0.7;
     double MUSIC_VOLUME = 0.5;
 
-    long INPUT_COOLDOWN = 16;
     int MENU_NAVIGATION_DELAY = 150;
 
     boolean DEBUG_MODE = false;
@@ -112,6 +113,9 @@ public interface GameConstants {
     int MAX_TRAIL_LENGTH = 10;
     boolean VSYNC_ENABLED = true;
     int TARGET_FPS = 60;
+    boolean ACTIVE_RENDERING = true;
+    int RENDER_BUFFER_COUNT = 3;
+    int BACKGROUND_RENDER_RATE = 10;
 
     String ASSETS_PATH = "/assets/";
     String IMAGES_PATH = ASSETS_PATH + "images/";
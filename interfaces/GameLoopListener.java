@@ -0,0 +1,7 @@
+package interfaces;
+
+public interface GameLoopListener {
+    void tick();
+
+    void render(double interpolation);
+}
@@ -0,0 +1,5 @@
+package interfaces;
+
+public interface InputListener {
+    void onKey(int keyCode, boolean pressed, long when);
+}
@@ -0,0 +1,5 @@
+package interfaces;
+
+public interface TimerListener {
+    void onTimer(int payload);
+}
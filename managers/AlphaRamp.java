@@ -0,0 +1,81 @@
+package managers;
+
+import java.awt.Color;
+import java.util.HashMap;
+import java.util.Map;
+
+public final class AlphaRamp {
+
+    private static final int LEVELS = 256;
+    private static final int GLOW_BOOST = 50;
+    private static final int MAX_SHARED = 256;
+
+    private static final Map<Integer, AlphaRamp> shared = new HashMap<>();
+
+    private final int rgb;
+    private final int[] premultiplied = new int[LEVELS];
+    private final Color[] colors = new Color[LEVELS];
+    private AlphaRamp glow;
+
+    public AlphaRamp(int rgb) {
+        this.rgb = rgb & 0xFFFFFF;
+
+        int r = (this.rgb >> 16) & 0xFF;
+        int g = (this.rgb >> 8) & 0xFF;
+        int b = this.rgb & 0xFF;
+        for (int a = 0; a < LEVELS; a++) {
+            premultiplied[a] = (a << 24) | (mul8(r, a) << 16) | (mul8(g, a) << 8) | mul8(b, a);
+        }
+    }
+
+    public static synchronized AlphaRamp of(Color color) {
+        int rgb = (color != null ? color : Color.WHITE).getRGB() & 0xFFFFFF;
+
+        AlphaRamp ramp = shared.get(rgb);
+        if (ramp == null) {
+            ramp = new AlphaRamp(rgb);
+            if (shared.size() < MAX_SHARED) {
+                shared.put(rgb, ramp);
+            }
+        }
+        return ramp;
+    }
+
+    public int premultiplied(int alpha) {
+        return premultiplied[alpha & 0xFF];
+    }
+
+    public Color color(int alpha) {
+        int a = alpha & 0xFF;
+        Color color = colors[a];
+        if (color == null) {
+            color = new Color((a << 24) | rgb, true);
+            colors[a] = color;
+        }
+        return color;
+    }
+
+    public AlphaRamp getGlow() {
+        if (glow == null) {
+            int r = Math.min(255, ((rgb >> 16) & 0xFF) + GLOW_BOOST);
+            int g = Math.min(255, ((rgb >> 8) & 0xFF) + GLOW_BOOST);
+            int b = Math.min(255, (rgb & 0xFF) + GLOW_BOOST);
+            glow = new AlphaRamp((r << 16) | (g << 8) | b);
+        }
+        return glow;
+    }
+
+    public int getRgb() {
+        return rgb;
+    }
+
+    private static int mul8(int value, int alpha) {
+        int t = value * alpha + 128;
+        return (t + (t >> 8)) >> 8;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("AlphaRamp[#%06x]", rgb);
+    }
+}
@@ -0,0 +1,153 @@
+package managers;
+
+import enums.LogEvent;
+import interfaces.GameConstants;
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.net.URL;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import javax.imageio.ImageIO;
+
+public final class AssetManager {
+
+    private static final Map<String, BufferedImage> sources = new HashMap<>();
+    private static final Map<String, BufferedImage> sprites = new HashMap<>();
+    private static final BufferedImage[] carSprites = new BufferedImage[GameConstants.CAR_IMAGES.length];
+
+    private static boolean enabled = !GraphicsEnvironment.isHeadless();
+    private static boolean carSpritesLoaded = false;
+    private static int decodeCount = 0;
+
+    private AssetManager() {
+    }
+
+    public static synchronized void preload() {
+        getCarSprites();
+    }
+
+    public static synchronized BufferedImage getCarSprite(String imageType) {
+        BufferedImage[] cars = getCarSprites();
+        for (int i = 0; i < GameConstants.CAR_IMAGES.length; i++) {
+            if (GameConstants.CAR_IMAGES[i].equals(imageType + ".png")) {
+                return cars[i];
+            }
+        }
+        return getSprite(imageType, GameConstants.CAR_WIDTH, GameConstants.CAR_HEIGHT);
+    }
+
+    public static synchronized BufferedImage[] getCarSprites() {
+        if (!carSpritesLoaded) {
+            carSpritesLoaded = true;
+            for (int i = 0; i < GameConstants.CAR_IMAGES.length; i++) {
+                String imageType = GameConstants.CAR_IMAGES[i].replace(".png", "");
+                carSprites[i] = getSprite(imageType, GameConstants.CAR_WIDTH, GameConstants.CAR_HEIGHT);
+            }
+        }
+        return carSprites;
+    }
+
+    public static synchronized BufferedImage getSprite(String imageType, int width, int height) {
+        if (!enabled || imageType == null)
+            return null;
+
+        String key = imageType + "@" + width + "x" + height;
+        if (sprites.containsKey(key)) {
+            return sprites.get(key);
+        }
+
+        BufferedImage sprite = null;
+        BufferedImage source = decode(imageType);
+        if (source != null) {
+            int targetWidth = width > 0 ? width : source.getWidth();
+            int targetHeight = height > 0 ? height : source.getHeight();
+            sprite = toCompatibleImage(source, targetWidth, targetHeight);
+        }
+
+        sprites.put(key, sprite);
+        return sprite;
+    }
+
+    private static BufferedImage decode(String imageType) {
+        if (sources.containsKey(imageType)) {
+            return sources.get(imageType);
+        }
+
+        BufferedImage source = read(imageType);
+        sources.put(imageType, source);
+        return source;
+    }
+
+    private static BufferedImage read(String imageType) {
+        URL resource = AssetManager.class.getResource("/assets/" + imageType + ".png");
+        if (resource == null) {
+            GameLogger.log(LogEvent.ASSET_MISSING, imageType);
+            return null;
+        }
+
+        try {
+            decodeCount++;
+            return ImageIO.read(resource);
+        } catch (IOException | IllegalArgumentException e) {
+            GameLogger.log(LogEvent.ASSET_MISSING, imageType);
+            return null;
+        }
+    }
+
+    public static BufferedImage createCompatibleImage(int width, int height, int transparency) {
+        if (GraphicsEnvironment.isHeadless()) {
+            int type = transparency == Transparency.OPAQUE ? BufferedImage.TYPE_INT_RGB
+                    : BufferedImage.TYPE_INT_ARGB_PRE;
+            return new BufferedImage(width, height, type);
+        }
+
+        GraphicsConfiguration config = GraphicsEnvironment.getLocalGraphicsEnvironment()
+                .getDefaultScreenDevice().getDefaultConfiguration();
+        return config.createCompatibleImage(width, height, transparency);
+    }
+
+    private static BufferedImage toCompatibleImage(BufferedImage source, int width, int height) {
+        BufferedImage target = createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setComposite(AlphaComposite.Src);
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+
+        return target;
+    }
+
+    public static synchronized void setEnabled(boolean isEnabled) {
+        if (enabled != isEnabled) {
+            enabled = isEnabled;
+            sources.clear();
+            sprites.clear();
+            Arrays.fill(carSprites, null);
+            carSpritesLoaded = false;
+        }
+    }
+
+    public static synchronized boolean isEnabled() {
+        return enabled;
+    }
+
+    public static synchronized int getDecodeCount() {
+        return decodeCount;
+    }
+
+    public static synchronized int getCachedSpriteCount() {
+        return sprites.size();
+    }
+}
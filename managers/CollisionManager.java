@@ -1,17 +1,24 @@
 package managers;
 
 import models.*;
+import enums.LogEvent;
 import interfaces.GameConstants;
-import java.util.List;
 
 public class CollisionManager {
 
     private static final double COLLISION_TOLERANCE = 0.8;
     private static final double SEPARATION_FORCE = 0.3;
     private static final int MIN_SEPARATION_DISTANCE = 80;
+    private static final double MIN_SEPARATION_DISTANCE_SQUARED = (double) MIN_SEPARATION_DISTANCE
+            * MIN_SEPARATION_DISTANCE;
+
+    private final SpatialHash spatialHash = new SpatialHash();
+    private int[] queryBuffer = new int[64];
 
     public void checkAllCollisions(Player player1, Player player2,
-            List<ObstacleCar> obstacles, GameManager gameManager) {
+            ObstacleField obstacles, GameManager gameManager) {
+
+        rebuildSpatialHash(obstacles);
 
         checkPlayerObstacleCollisions(player1, obstacles, gameManager);
         checkPlayerObstacleCollisions(player2, obstacles, gameManager);
@@ -24,70 +31,99 @@ public class CollisionManager {
         checkPlayerCollision(player1, player2, gameManager);
     }
 
-    private void checkPlayerObstacleCollisions(Player player, List<ObstacleCar> obstacles,
+    private void rebuildSpatialHash(ObstacleField obstacles) {
+        int count = obstacles.size();
+        if (queryBuffer.length < count) {
+            queryBuffer = new int[Math.max(count, queryBuffer.length * 2)];
+        }
+
+        spatialHash.clear(count);
+        for (int i = 0; i < count; i++) {
+            if (obstacles.isActive(i)) {
+                spatialHash.insert(i, obstacles.getX(i), obstacles.getY(i),
+                        obstacles.getWidth(), obstacles.getHeight());
+            }
+        }
+    }
+
+    private void checkPlayerObstacleCollisions(Player player, ObstacleField obstacles,
             GameManager gameManager) {
         if (!player.isAlive() || player.isInvulnerable()) {
             return;
         }
 
-        for (ObstacleCar obstacle : obstacles) {
-            if (obstacle.isActive() && isColliding(player, obstacle)) {
+        int candidates = spatialHash.query(player.getX(), player.getY(),
+                player.getWidth(), player.getHeight(), queryBuffer);
 
-                gameManager.createCrashEffect(
-                        player.getX() + player.getWidth() / 2,
-                        player.getY() + player.getHeight() / 2);
+        int hit = -1;
+        for (int c = 0; c < candidates; c++) {
+            int index = queryBuffer[c];
+            if ((hit < 0 || index < hit) && obstacles.isActive(index) && isColliding(player, obstacles, index)) {
+                hit = index;
+            }
+        }
 
-                player.takeDamage();
+        if (hit >= 0) {
 
-                obstacle.setSpeed(obstacle.getSpeed() * 0.5);
+            gameManager.createCrashEffect(
+                    player.getX() + player.getWidth() / 2,
+                    player.getY() + player.getHeight() / 2);
 
-                System.out.println("💥 COLLISION: " + player.getName());
-                break;
-            }
+            player.takeDamage();
+
+            obstacles.setSpeed(hit, obstacles.getSpeed(hit) * 0.5);
+
+            GameLogger.log(LogEvent.COLLISION, player.getName());
         }
     }
 
-    private boolean isColliding(Player player, ObstacleCar obstacle) {
-        return player.getX() < obstacle.getX() + obstacle.getWidth() &&
-                player.getX() + player.getWidth() > obstacle.getX() &&
-                player.getY() < obstacle.getY() + obstacle.getHeight() &&
-                player.getY() + player.getHeight() > obstacle.getY();
+    private boolean isColliding(Player player, ObstacleField obstacles, int obstacle) {
+        return player.getX() < obstacles.getX(obstacle) + obstacles.getWidth() &&
+                player.getX() + player.getWidth() > obstacles.getX(obstacle) &&
+                player.getY() < obstacles.getY(obstacle) + obstacles.getHeight() &&
+                player.getY() + player.getHeight() > obstacles.getY(obstacle);
     }
 
-    private void separateOverlappingCars(List<ObstacleCar> obstacles) {
+    private void separateOverlappingCars(ObstacleField obstacles) {
         for (int i = 0; i < obstacles.size(); i++) {
-            for (int j = i + 1; j < obstacles.size(); j++) {
-                ObstacleCar car1 = obstacles.get(i);
-                ObstacleCar car2 = obstacles.get(j);
+            if (!obstacles.isActive(i))
+                continue;
+
+            int candidates = spatialHash.query(
+                    obstacles.getX(i) - MIN_SEPARATION_DISTANCE, obstacles.getY(i) - MIN_SEPARATION_DISTANCE,
+                    MIN_SEPARATION_DISTANCE * 2, MIN_SEPARATION_DISTANCE * 2, queryBuffer);
+
+            for (int c = 0; c < candidates; c++) {
+                int j = queryBuffer[c];
+                if (j <= i)
+                    continue;
 
-                if (car1.isActive() && car2.isActive() &&
-                        isOverlapping(car1, car2)) {
-                    separateTwoCars(car1, car2);
+                if (obstacles.isActive(j) && isOverlapping(obstacles, i, j)) {
+                    separateTwoCars(obstacles, i, j);
                 }
             }
         }
     }
 
-    private boolean isOverlapping(ObstacleCar car1, ObstacleCar car2) {
-        double distance = Math.sqrt(
-                Math.pow(car1.getX() - car2.getX(), 2) +
-                        Math.pow(car1.getY() - car2.getY(), 2));
-        return distance < MIN_SEPARATION_DISTANCE;
+    private boolean isOverlapping(ObstacleField obstacles, int car1, int car2) {
+        double dx = obstacles.getX(car1) - obstacles.getX(car2);
+        double dy = obstacles.getY(car1) - obstacles.getY(car2);
+        return dx * dx + dy * dy < MIN_SEPARATION_DISTANCE_SQUARED;
     }
 
-    private void separateTwoCars(ObstacleCar car1, ObstacleCar car2) {
+    private void separateTwoCars(ObstacleField obstacles, int car1, int car2) {
 
-        if (car1.getSpeed() < car2.getSpeed()) {
-            car1.setSpeed(car1.getSpeed() * 0.7);
+        if (obstacles.getSpeed(car1) < obstacles.getSpeed(car2)) {
+            obstacles.setSpeed(car1, obstacles.getSpeed(car1) * 0.7);
         } else {
-            car2.setSpeed(car2.getSpeed() * 0.7);
+            obstacles.setSpeed(car2, obstacles.getSpeed(car2) * 0.7);
         }
 
         double minSpeed = 2.0;
-        if (car1.getSpeed() < minSpeed)
-            car1.setSpeed(minSpeed);
-        if (car2.getSpeed() < minSpeed)
-            car2.setSpeed(minSpeed);
+        if (obstacles.getSpeed(car1) < minSpeed)
+            obstacles.setSpeed(car1, minSpeed);
+        if (obstacles.getSpeed(car2) < minSpeed)
+            obstacles.setSpeed(car2, minSpeed);
     }
 
     private void checkBoundaryViolations(Player player, GameManager gameManager) {
@@ -114,7 +150,7 @@ public class CollisionManager {
                     player.getX() + player.getWidth() / 2,
                     player.getY() + player.getHeight() / 2);
             player.takeDamage();
-            System.out.println("🚫 BOUNDARY VIOLATION: " + player.getName());
+            GameLogger.log(LogEvent.BOUNDARY_VIOLATION, player.getName());
         }
     }
 
@@ -130,7 +166,7 @@ public class CollisionManager {
             double centerY = (player1.getY() + player2.getY()) / 2;
 
             gameManager.createCrashEffect(centerX, centerY);
-            System.out.println("💥💥 PLAYER COLLISION!");
+            GameLogger.log(LogEvent.PLAYER_COLLISION);
         }
     }
 
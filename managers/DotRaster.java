@@ -0,0 +1,189 @@
+package managers;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.awt.image.SinglePixelPackedSampleModel;
+import java.awt.image.WritableRaster;
+import java.util.Arrays;
+
+public class DotRaster {
+
+    public static final int MAX_DOT_SIZE = 16;
+
+    private static final int[][] opaqueStart = new int[MAX_DOT_SIZE + 1][];
+    private static final int[][] opaqueEnd = new int[MAX_DOT_SIZE + 1][];
+    private static final int[][] translucentStart = new int[MAX_DOT_SIZE + 1][];
+    private static final int[][] translucentEnd = new int[MAX_DOT_SIZE + 1][];
+
+    static {
+        rasterizeSpans(Color.WHITE, opaqueStart, opaqueEnd);
+        rasterizeSpans(new Color(255, 255, 255, 128), translucentStart, translucentEnd);
+    }
+
+    private static void rasterizeSpans(Color paint, int[][] spanStart, int[][] spanEnd) {
+        BufferedImage scratch = new BufferedImage(MAX_DOT_SIZE, MAX_DOT_SIZE, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = scratch.createGraphics();
+        try {
+            for (int size = 1; size <= MAX_DOT_SIZE; size++) {
+                g.setColor(Color.BLACK);
+                g.fillRect(0, 0, MAX_DOT_SIZE, MAX_DOT_SIZE);
+                g.setColor(paint);
+                g.fillOval(0, 0, size, size);
+
+                spanStart[size] = new int[size];
+                spanEnd[size] = new int[size];
+                for (int row = 0; row < size; row++) {
+                    int start = size;
+                    int end = -1;
+                    for (int col = 0; col < size; col++) {
+                        if ((scratch.getRGB(col, row) & 0xFFFFFF) != 0) {
+                            start = Math.min(start, col);
+                            end = col;
+                        }
+                    }
+                    spanStart[size][row] = start;
+                    spanEnd[size][row] = end;
+                }
+            }
+        } finally {
+            g.dispose();
+        }
+    }
+
+    private final int width;
+    private final int height;
+
+    private BufferedImage overlay;
+    private int[] overlayPixels;
+
+    private int[] pixels;
+    private int scan;
+    private int clipWidth;
+    private int clipHeight;
+    private int colorMask;
+    private boolean direct;
+
+    private int dirtyMinX;
+    private int dirtyMinY;
+    private int dirtyMaxX;
+    private int dirtyMaxY;
+
+    public DotRaster(int width, int height) {
+        this.width = Math.max(1, width);
+        this.height = Math.max(1, height);
+    }
+
+    public static boolean supportsDirect(BufferedImage image) {
+        if (image == null)
+            return false;
+
+        int type = image.getType();
+        if (type != BufferedImage.TYPE_INT_RGB && type != BufferedImage.TYPE_INT_ARGB_PRE)
+            return false;
+
+        WritableRaster raster = image.getRaster();
+        if (!(raster.getDataBuffer() instanceof DataBufferInt) ||
+                !(raster.getSampleModel() instanceof SinglePixelPackedSampleModel))
+            return false;
+
+        SinglePixelPackedSampleModel sampleModel = (SinglePixelPackedSampleModel) raster.getSampleModel();
+        return raster.getDataBuffer().getOffset() == 0 &&
+                raster.getSampleModelTranslateX() == 0 && raster.getSampleModelTranslateY() == 0 &&
+                sampleModel.getScanlineStride() == image.getWidth();
+    }
+
+    public void begin(BufferedImage target) {
+        direct = supportsDirect(target);
+
+        if (direct) {
+            pixels = ((DataBufferInt) target.getRaster().getDataBuffer()).getData();
+            scan = target.getWidth();
+            clipWidth = target.getWidth();
+            clipHeight = target.getHeight();
+            colorMask = target.getType() == BufferedImage.TYPE_INT_RGB ? 0x00FFFFFF : 0xFFFFFFFF;
+        } else {
+            if (overlay == null) {
+                overlay = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB_PRE);
+                overlayPixels = ((DataBufferInt) overlay.getRaster().getDataBuffer()).getData();
+            }
+            pixels = overlayPixels;
+            scan = width;
+            clipWidth = width;
+            clipHeight = height;
+            colorMask = 0xFFFFFFFF;
+        }
+
+        dirtyMinX = clipWidth;
+        dirtyMinY = clipHeight;
+        dirtyMaxX = 0;
+        dirtyMaxY = 0;
+    }
+
+    public void stamp(int x, int y, int size, int premultipliedArgb) {
+        int alpha = premultipliedArgb >>> 24;
+        if (alpha == 0 || size <= 0)
+            return;
+
+        int dot = Math.min(size, MAX_DOT_SIZE);
+        int[] starts = alpha == 255 ? opaqueStart[dot] : translucentStart[dot];
+        int[] ends = alpha == 255 ? opaqueEnd[dot] : translucentEnd[dot];
+        int inverse = 255 - alpha;
+
+        int firstRow = Math.max(0, -y);
+        int lastRow = Math.min(dot, clipHeight - y);
+        for (int row = firstRow; row < lastRow; row++) {
+            int from = Math.max(x + starts[row], 0);
+            int to = Math.min(x + ends[row], clipWidth - 1);
+            if (from > to)
+                continue;
+
+            int offset = (y + row) * scan;
+            for (int px = from; px <= to; px++) {
+                int index = offset + px;
+                pixels[index] = blend(pixels[index], premultipliedArgb, inverse) & colorMask;
+            }
+
+            dirtyMinX = Math.min(dirtyMinX, from);
+            dirtyMaxX = Math.max(dirtyMaxX, to + 1);
+        }
+
+        if (firstRow < lastRow) {
+            dirtyMinY = Math.min(dirtyMinY, y + firstRow);
+            dirtyMaxY = Math.max(dirtyMaxY, y + lastRow);
+        }
+    }
+
+    public void end(Graphics2D g) {
+        if (!direct && dirtyMinX < dirtyMaxX && dirtyMinY < dirtyMaxY) {
+            g.drawImage(overlay, dirtyMinX, dirtyMinY, dirtyMaxX, dirtyMaxY,
+                    dirtyMinX, dirtyMinY, dirtyMaxX, dirtyMaxY, null);
+
+            for (int row = dirtyMinY; row < dirtyMaxY; row++) {
+                int offset = row * scan;
+                Arrays.fill(overlayPixels, offset + dirtyMinX, offset + dirtyMaxX, 0);
+            }
+        }
+        pixels = null;
+    }
+
+    private static int blend(int destination, int source, int inverse) {
+        int rb = (destination & 0x00FF00FF) * inverse + 0x00800080;
+        rb = ((rb + ((rb >>> 8) & 0x00FF00FF)) >>> 8) & 0x00FF00FF;
+
+        int ag = ((destination >>> 8) & 0x00FF00FF) * inverse + 0x00800080;
+        ag = (ag + ((ag >>> 8) & 0x00FF00FF)) & 0xFF00FF00;
+
+        return (rb | ag) + source;
+    }
+
+    public boolean isDirect() {
+        return direct;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("DotRaster[%dx%d, direct=%s]", width, height, direct);
+    }
+}
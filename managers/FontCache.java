@@ -0,0 +1,48 @@
+package managers;
+
+import java.awt.Font;
+import java.util.HashMap;
+import java.util.Map;
+
+public final class FontCache {
+
+    private static final int MAX_SIZE = 128;
+    private static final int STYLE_COUNT = 4;
+
+    private static final Map<String, Font[]> families = new HashMap<>();
+
+    private FontCache() {
+    }
+
+    public static synchronized Font get(String family, int style, int size) {
+        if (size <= 0 || size >= MAX_SIZE || style < 0 || style >= STYLE_COUNT) {
+            return new Font(family, style, size);
+        }
+
+        Font[] fonts = families.get(family);
+        if (fonts == null) {
+            fonts = new Font[STYLE_COUNT * MAX_SIZE];
+            families.put(family, fonts);
+        }
+
+        int index = style * MAX_SIZE + size;
+        Font font = fonts[index];
+        if (font == null) {
+            font = new Font(family, style, size);
+            fonts[index] = font;
+        }
+        return font;
+    }
+
+    public static synchronized int size() {
+        int count = 0;
+        for (Font[] fonts : families.values()) {
+            for (Font font : fonts) {
+                if (font != null) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+}
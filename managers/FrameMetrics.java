@@ -0,0 +1,74 @@
+package managers;
+
+import enums.FramePhase;
+
+public class FrameMetrics {
+
+    public static final long FRAME_BUDGET_NANOS = 16_666_667L;
+
+    private final LatencyHistogram[] histograms = new LatencyHistogram[FramePhase.values().length];
+    private volatile boolean enabled = true;
+
+    public FrameMetrics() {
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = new LatencyHistogram();
+        }
+    }
+
+    public long start() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    public void stop(FramePhase phase, long startNanos) {
+        if (enabled && startNanos != 0L) {
+            histograms[phase.ordinal()].record(System.nanoTime() - startNanos);
+        }
+    }
+
+    public void record(FramePhase phase, long nanos) {
+        if (enabled) {
+            histograms[phase.ordinal()].record(nanos);
+        }
+    }
+
+    public LatencyHistogram getHistogram(FramePhase phase) {
+        return histograms[phase.ordinal()];
+    }
+
+    public double getPercentileMillis(FramePhase phase, double percentile) {
+        return histograms[phase.ordinal()].getValueAtPercentile(percentile) / 1e6;
+    }
+
+    public double getMaxMillis(FramePhase phase) {
+        return histograms[phase.ordinal()].getMaxNanos() / 1e6;
+    }
+
+    public boolean isWithinBudget(FramePhase phase, double percentile) {
+        return histograms[phase.ordinal()].getValueAtPercentile(percentile) <= FRAME_BUDGET_NANOS;
+    }
+
+    public void reset() {
+        for (LatencyHistogram histogram : histograms) {
+            histogram.reset();
+        }
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public String formatSummary(FramePhase phase) {
+        LatencyHistogram histogram = histograms[phase.ordinal()];
+        return String.format("%-10s n=%-8d p50=%7.3f p99=%7.3f p99.9=%7.3f max=%7.3f ms",
+                phase.label,
+                histogram.getCount(),
+                histogram.getValueAtPercentile(50.0) / 1e6,
+                histogram.getValueAtPercentile(99.0) / 1e6,
+                histogram.getValueAtPercentile(99.9) / 1e6,
+                histogram.getMaxNanos() / 1e6);
+    }
+}
@@ -0,0 +1,187 @@
+package managers;
+
+import enums.LogEvent;
+import enums.LogLevel;
+import interfaces.GameConstants;
+import java.io.PrintStream;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+public final class GameLogger {
+
+    private static final int RING_SIZE = 4096;
+    private static final int RING_MASK = RING_SIZE - 1;
+    private static final int MAX_ARGS = 3;
+    private static final long IDLE_PARK_NANOS = 1_000_000L;
+
+    private static final LogEvent[] events = new LogEvent[RING_SIZE];
+    private static final String[] subjects = new String[RING_SIZE];
+    private static final double[] args = new double[RING_SIZE * MAX_ARGS];
+    private static final AtomicLongArray published = new AtomicLongArray(RING_SIZE);
+
+    private static final AtomicLong head = new AtomicLong();
+    private static volatile long tail;
+    private static final AtomicLong dropped = new AtomicLong();
+
+    private static volatile LogLevel minimumLevel = GameConstants.DEBUG_MODE ? LogLevel.DEBUG : LogLevel.INFO;
+    private static final Thread drainer;
+
+    static {
+        drainer = new Thread(GameLogger::drainLoop, "GameLogger");
+        drainer.setDaemon(true);
+        drainer.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(GameLogger::drain, "GameLogger-Flush"));
+    }
+
+    private GameLogger() {
+    }
+
+    public static boolean isEnabled(LogLevel level) {
+        return level.ordinal() >= minimumLevel.ordinal() && level != LogLevel.OFF;
+    }
+
+    public static void setLevel(LogLevel level) {
+        minimumLevel = level != null ? level : LogLevel.INFO;
+    }
+
+    public static LogLevel getLevel() {
+        return minimumLevel;
+    }
+
+    public static void log(LogEvent event) {
+        append(event, null, 0, 0, 0);
+    }
+
+    public static void log(LogEvent event, String subject) {
+        append(event, subject, 0, 0, 0);
+    }
+
+    public static void log(LogEvent event, double a0) {
+        append(event, null, a0, 0, 0);
+    }
+
+    public static void log(LogEvent event, double a0, double a1) {
+        append(event, null, a0, a1, 0);
+    }
+
+    public static void log(LogEvent event, double a0, double a1, double a2) {
+        append(event, null, a0, a1, a2);
+    }
+
+    public static void log(LogEvent event, String subject, double a0) {
+        append(event, subject, a0, 0, 0);
+    }
+
+    public static void log(LogEvent event, String subject, double a0, double a1) {
+        append(event, subject, a0, a1, 0);
+    }
+
+    private static void append(LogEvent event, String subject, double a0, double a1, double a2) {
+        if (!isEnabled(event.level))
+            return;
+
+        long sequence;
+        do {
+            sequence = head.get();
+            if (sequence - tail >= RING_SIZE) {
+                dropped.incrementAndGet();
+                return;
+            }
+        } while (!head.compareAndSet(sequence, sequence + 1));
+
+        int slot = (int) (sequence & RING_MASK);
+        events[slot] = event;
+        subjects[slot] = subject;
+        int base = slot * MAX_ARGS;
+        args[base] = a0;
+        args[base + 1] = a1;
+        args[base + 2] = a2;
+        published.lazySet(slot, sequence + 1);
+
+        if (event.level == LogLevel.ERROR) {
+            LockSupport.unpark(drainer);
+        }
+    }
+
+    private static void drainLoop() {
+        StringBuilder line = new StringBuilder(128);
+        while (true) {
+            if (drainBatch(line) == 0) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+    }
+
+    private static synchronized int drainBatch(StringBuilder line) {
+        int drained = 0;
+        long next = tail;
+
+        while (true) {
+            int slot = (int) (next & RING_MASK);
+            if (published.get(slot) != next + 1)
+                break;
+
+            LogEvent event = events[slot];
+            line.setLength(0);
+            format(line, event.template, subjects[slot], slot * MAX_ARGS);
+            subjects[slot] = null;
+
+            next++;
+            tail = next;
+            drained++;
+
+            PrintStream out = event.level == LogLevel.ERROR ? System.err : System.out;
+            out.println(line);
+        }
+
+        return drained;
+    }
+
+    private static void format(StringBuilder line, String template, String subject, int base) {
+        int length = template.length();
+        for (int i = 0; i < length; i++) {
+            char c = template.charAt(i);
+            int close = c == '{' ? template.indexOf('}', i) : -1;
+            if (close < 0) {
+                line.append(c);
+                continue;
+            }
+
+            String token = template.substring(i + 1, close);
+            if (token.equals("s")) {
+                line.append(subject);
+            } else if (token.length() == 1) {
+                line.append((long) args[base + token.charAt(0) - '0']);
+            } else {
+                double value = args[base + token.charAt(0) - '0'];
+                line.append(Math.round(value * 10.0) / 10.0);
+            }
+            i = close;
+        }
+    }
+
+    public static void drain() {
+        drainBatch(new StringBuilder(128));
+    }
+
+    public static void flush() {
+        long target = head.get();
+        while (tail < target) {
+            LockSupport.unpark(drainer);
+            LockSupport.parkNanos(IDLE_PARK_NANOS / 10);
+        }
+    }
+
+    public static long getLoggedCount() {
+        return tail;
+    }
+
+    public static long getPendingCount() {
+        return head.get() - tail;
+    }
+
+    public static long getDroppedCount() {
+        return dropped.get();
+    }
+}
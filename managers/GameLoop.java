@@ -0,0 +1,248 @@
+package managers;
+
+import enums.LogEvent;
+import interfaces.GameConstants;
+import interfaces.GameLoopListener;
+import java.util.concurrent.locks.LockSupport;
+
+public class GameLoop {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final long SPIN_WINDOW = 150_000L;
+
+    private final GameLoopListener listener;
+    private final long tickNanos;
+    private final int maxSubSteps;
+    private volatile long frameNanos;
+
+    private Thread simulationThread;
+    private Thread renderThread;
+    private volatile boolean running;
+    private volatile boolean renderSuspended;
+    private volatile boolean renderOnDemand;
+    private boolean renderRequested;
+    private final Object renderGate = new Object();
+
+    private long previousTime;
+    private long accumulator;
+    private volatile long lastTickTime;
+    private volatile long totalTicks;
+    private volatile long droppedTicks;
+    private volatile double interpolation;
+
+    public GameLoop(GameLoopListener listener) {
+        this(listener, GameConstants.TICK_RATE, GameConstants.MAX_SUB_STEPS, GameConstants.TARGET_FPS);
+    }
+
+    public GameLoop(GameLoopListener listener, int tickRate, int maxSubSteps, int renderRate) {
+        if (listener == null) {
+            throw new IllegalArgumentException("GameLoopListener must not be null");
+        }
+
+        this.listener = listener;
+        this.tickNanos = NANOS_PER_SECOND / Math.max(1, tickRate);
+        this.maxSubSteps = Math.max(1, maxSubSteps);
+        setRenderRate(renderRate);
+    }
+
+    public synchronized void start() {
+        if (running)
+            return;
+
+        running = true;
+        previousTime = System.nanoTime();
+        lastTickTime = previousTime;
+        accumulator = 0;
+
+        simulationThread = new Thread(this::runSimulation, "GameLoop-Simulation");
+        simulationThread.setDaemon(true);
+        simulationThread.start();
+
+        renderThread = new Thread(this::runRender, "GameLoop-Render");
+        renderThread.setDaemon(true);
+        renderThread.start();
+    }
+
+    public synchronized void stop() {
+        running = false;
+        if (simulationThread != null) {
+            simulationThread.interrupt();
+            simulationThread = null;
+        }
+        if (renderThread != null) {
+            renderThread.interrupt();
+            renderThread = null;
+        }
+    }
+
+    private void runSimulation() {
+        while (running) {
+            try {
+                advance(System.nanoTime());
+            } catch (Exception e) {
+                GameLogger.log(LogEvent.SIMULATION_LOOP_FAILED, e.getMessage());
+                if (GameConstants.DEBUG_MODE) {
+                    e.printStackTrace();
+                }
+            }
+
+            if (!sleepUntil(lastTickTime + tickNanos)) {
+                break;
+            }
+        }
+    }
+
+    private void runRender() {
+        long nextFrame = System.nanoTime();
+
+        while (running) {
+            if (renderSuspended || renderOnDemand) {
+                if (!awaitRenderResumed()) {
+                    break;
+                }
+                nextFrame = System.nanoTime();
+            }
+
+            try {
+                long sinceTick = System.nanoTime() - lastTickTime;
+                interpolation = Math.max(0.0, Math.min(1.0, (double) sinceTick / tickNanos));
+                listener.render(interpolation);
+            } catch (Exception e) {
+                GameLogger.log(LogEvent.RENDER_LOOP_FAILED, e.getMessage());
+                if (GameConstants.DEBUG_MODE) {
+                    e.printStackTrace();
+                }
+            }
+
+            nextFrame += frameNanos;
+            long now = System.nanoTime();
+            if (nextFrame < now) {
+                nextFrame = now;
+            }
+
+            if (!sleepUntil(nextFrame)) {
+                break;
+            }
+        }
+    }
+
+    private boolean awaitRenderResumed() {
+        synchronized (renderGate) {
+            try {
+                while (running && (renderSuspended || (renderOnDemand && !renderRequested))) {
+                    renderGate.wait();
+                }
+                renderRequested = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public void advance(long now) {
+        long elapsed = now - previousTime;
+        previousTime = now;
+
+        if (elapsed > 0) {
+            accumulator += elapsed;
+        }
+
+        int steps = 0;
+        while (accumulator >= tickNanos && steps < maxSubSteps) {
+            listener.tick();
+            accumulator -= tickNanos;
+            totalTicks++;
+            steps++;
+        }
+
+        if (accumulator >= tickNanos) {
+            long behind = accumulator / tickNanos;
+            droppedTicks += behind;
+            accumulator -= behind * tickNanos;
+        }
+
+        lastTickTime = now - accumulator;
+    }
+
+    private boolean sleepUntil(long deadline) {
+        long remaining = deadline - System.nanoTime();
+
+        while (remaining > SPIN_WINDOW) {
+            LockSupport.parkNanos(remaining - SPIN_WINDOW);
+            if (Thread.currentThread().isInterrupted()) {
+                return false;
+            }
+            remaining = deadline - System.nanoTime();
+        }
+
+        while (System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        return true;
+    }
+
+    public void setRenderRate(int renderRate) {
+        this.frameNanos = NANOS_PER_SECOND / Math.max(1, renderRate);
+    }
+
+    public void setRenderSuspended(boolean suspended) {
+        synchronized (renderGate) {
+            renderSuspended = suspended;
+            renderGate.notifyAll();
+        }
+    }
+
+    public void setRenderOnDemand(boolean onDemand) {
+        if (renderOnDemand == onDemand)
+            return;
+
+        synchronized (renderGate) {
+            renderOnDemand = onDemand;
+            renderGate.notifyAll();
+        }
+    }
+
+    public void requestRender() {
+        if (!renderOnDemand)
+            return;
+
+        synchronized (renderGate) {
+            renderRequested = true;
+            renderGate.notifyAll();
+        }
+    }
+
+    public boolean isRenderOnDemand() {
+        return renderOnDemand;
+    }
+
+    public boolean isRenderSuspended() {
+        return renderSuspended;
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public int getTickRate() {
+        return (int) (NANOS_PER_SECOND / tickNanos);
+    }
+
+    public int getRenderRate() {
+        return (int) (NANOS_PER_SECOND / frameNanos);
+    }
+
+    public long getTotalTicks() {
+        return totalTicks;
+    }
+
+    public long getDroppedTicks() {
+        return droppedTicks;
+    }
+
+    public double getInterpolation() {
+        return interpolation;
+    }
+}
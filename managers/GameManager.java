@@ -3,94 +3,201 @@ package managers;
 import models.*;
 import enums.*;
 import interfaces.GameConstants;
+import interfaces.TimerListener;
 import java.util.*;
 import java.awt.Color;
 
 public class GameManager {
 
+    private static final double SPAWN_ZONE_BOTTOM = GameConstants.CAR_HEIGHT * 2;
+
+    private static final int FLOW_COUNTDOWN = 0;
+    private static final int FLOW_LEVEL_SECOND = 1;
+    private static final int FLOW_TRANSITION = 2;
+
     private GameState gameState;
     private DifficultyLevel difficulty;
     private int currentLevel;
     private int gameTimer;
     private int totalSurvivalTime;
+    private int countdownTimer;
+    private int transitionCountdown;
     private Player player1, player2;
-    private List<ObstacleCar> obstacles;
+    private ObstacleField obstacles;
+    private ObstaclePool obstaclePool;
     private List<TreeObject> trees;
-    private List<Particle> particles;
+    private ParticleSystem particles;
+    private GameRandom rootRandom;
+    private final Map<String, GameRandom> streams = new LinkedHashMap<>();
     private Random random;
+    private double roadOffset;
+    private double previousRoadOffset;
 
     private InputManager inputManager;
     private CollisionManager collisionManager;
+    private final LaneIndex laneIndex = new LaneIndex();
+    private final SpawnPlanner spawnPlanner = new SpawnPlanner();
+    private FrameMetrics metrics;
+    private final TickScheduler scheduler = new TickScheduler();
+    private final TickScheduler flowClock = new TickScheduler(4);
+    private final TimerListener flowListener = this::onFlowTimer;
+    private long flowTimer = TickScheduler.NO_TIMER;
+    private boolean ticking;
+    private int[] issuedCommands = new int[4];
+    private int issuedCount;
+    private int[] appliedCommands = new int[4];
+    private int appliedCount;
 
     public GameManager() {
+        this(new FrameMetrics());
+    }
+
+    public GameManager(FrameMetrics metrics) {
+        this(metrics, GameRandom.newSeed());
+    }
+
+    public GameManager(FrameMetrics metrics, long seed) {
 
         this.gameState = GameState.MAIN_MENU;
         this.difficulty = DifficultyLevel.MEDIUM;
         this.currentLevel = 1;
         this.gameTimer = 30;
         this.totalSurvivalTime = 0;
-        this.random = new Random();
+        this.rootRandom = new GameRandom(seed);
+        this.random = stream("spawn");
 
         this.inputManager = new InputManager();
+        this.metrics = metrics != null ? metrics : new FrameMetrics();
         this.collisionManager = new CollisionManager();
 
-        this.obstacles = new ArrayList<>();
+        this.obstacles = new ObstacleField(stream("obstacles"));
+        this.obstacles.setSpawnPlanner(spawnPlanner);
+        this.obstaclePool = new ObstaclePool(obstacles);
+        this.obstaclePool.prewarm(GameConstants.MAX_OBSTACLE_COUNT);
         this.trees = new ArrayList<>();
-        this.particles = new ArrayList<>();
+        this.particles = new ParticleSystem(stream("particles"));
+        this.particles.setScheduler(scheduler);
 
         initializePlayers();
         initializeTrees();
     }
 
     private void initializePlayers() {
-        player1 = new Player(200, 750, "gamecar3", "Pemain 1", new Color(0, 150, 255));
-        player2 = new Player(1000, 750, "gamecar4", "Pemain 2", new Color(255, 100, 100));
+        player1 = new Player(200, 750, "gamecar3", "Pemain 1", new Color(0, 150, 255),
+                stream("player1"));
+        player2 = new Player(1000, 750, "gamecar4", "Pemain 2", new Color(255, 100, 100),
+                stream("player2"));
+        player1.setScheduler(scheduler);
+        player2.setScheduler(scheduler);
     }
 
     private void initializeTrees() {
         trees = new ArrayList<>();
+        Random treeRandom = stream("trees");
 
         try {
 
             String[] treeTypes = { "oak", "pine", "bush", "flower", "rock" };
 
             for (int i = 0; i < 10; i++) {
-                String randomType = treeTypes[random.nextInt(treeTypes.length)];
-                trees.add(new TreeObject(15, i * 200 - 300, randomType));
+                String randomType = treeTypes[treeRandom.nextInt(treeTypes.length)];
+                trees.add(new TreeObject(15, i * 200 - 300, randomType, treeRandom));
             }
 
             for (int i = 0; i < 10; i++) {
-                String randomType = treeTypes[random.nextInt(treeTypes.length)];
-                trees.add(new TreeObject(1245, i * 200 - 200, randomType));
+                String randomType = treeTypes[treeRandom.nextInt(treeTypes.length)];
+                trees.add(new TreeObject(1245, i * 200 - 200, randomType, treeRandom));
             }
 
             if (GameConstants.DEBUG_MODE) {
-                System.out.println("✅ Trees initialized: " + trees.size() + " objects");
+                GameLogger.log(LogEvent.TREES_INITIALIZED, trees.size());
             }
 
         } catch (Exception e) {
-            System.err.println("❌ Error initializing trees: " + e.getMessage());
+            GameLogger.log(LogEvent.TREES_INIT_FAILED, e.getMessage());
             trees = new ArrayList<>();
         }
     }
 
+    public void tick() {
+        long tickStart = metrics.start();
+        ticking = true;
+        int[] commands = appliedCommands;
+        appliedCommands = issuedCommands;
+        appliedCount = issuedCount;
+        issuedCommands = commands;
+        issuedCount = 0;
+        if (isFlowRunning()) {
+            flowClock.advance();
+        }
+        if (gameState == GameState.PLAYING) {
+            scheduler.advance();
+        }
+        savePreviousPositions();
+
+        if (gameState == GameState.PLAYING) {
+            long phaseStart = metrics.start();
+            inputManager.handleMovement(player1, player2, gameState);
+            metrics.stop(FramePhase.INPUT, phaseStart);
+        }
+
+        update();
+        updateRoadOffset();
+
+        inputManager.clearJustPressed();
+        ticking = false;
+        metrics.stop(FramePhase.TICK, tickStart);
+    }
+
+    private boolean isFlowRunning() {
+        return gameState == GameState.COUNTDOWN || gameState == GameState.PLAYING ||
+                gameState == GameState.LEVEL_TRANSITION;
+    }
+
+    private void savePreviousPositions() {
+        player1.savePreviousPosition();
+        player2.savePreviousPosition();
+
+        obstacles.savePreviousPositions();
+
+        previousRoadOffset = roadOffset;
+    }
+
+    private void updateRoadOffset() {
+        if (gameState == GameState.MAIN_MENU || gameState == GameState.DIFFICULTY_SELECT)
+            return;
+
+        roadOffset += 3.0 + (currentLevel - 1) * 0.3;
+    }
+
     public void update() {
         if (gameState != GameState.PLAYING)
             return;
 
         try {
 
+            long phaseStart = metrics.start();
             updateObstacles();
+            metrics.stop(FramePhase.UPDATE_OBSTACLES, phaseStart);
 
+            phaseStart = metrics.start();
             updateParticles();
+            metrics.stop(FramePhase.UPDATE_PARTICLES, phaseStart);
+
+            phaseStart = metrics.start();
             updateTrees();
+            metrics.stop(FramePhase.UPDATE_TREES, phaseStart);
 
+            phaseStart = metrics.start();
             checkCollisions();
+            metrics.stop(FramePhase.CHECK_COLLISIONS, phaseStart);
 
+            phaseStart = metrics.start();
             cleanupInactiveObjects();
+            metrics.stop(FramePhase.CLEANUP, phaseStart);
 
         } catch (Exception e) {
-            System.err.println("❌ Error in GameManager.update(): " + e.getMessage());
+            GameLogger.log(LogEvent.UPDATE_FAILED, e.getMessage());
             if (GameConstants.DEBUG_MODE) {
                 e.printStackTrace();
             }
@@ -101,16 +208,18 @@ public class GameManager {
         if (obstacles == null)
             return;
 
+        laneIndex.update(obstacles);
+        spawnPlanner.rebuild(obstacles, laneIndex, SPAWN_ZONE_BOTTOM);
+
         for (int i = obstacles.size() - 1; i >= 0; i--) {
-            ObstacleCar obstacle = obstacles.get(i);
-            if (obstacle != null && obstacle.isActive()) {
-                obstacle.update();
+            if (obstacles.isActive(i)) {
+                obstacles.update(i);
 
-                if (obstacle.getY() > GameConstants.SCREEN_HEIGHT + 100) {
-                    respawnObstacleWithSeparation(obstacle);
+                if (obstacles.getY(i) > GameConstants.SCREEN_HEIGHT + 100) {
+                    respawnObstacleWithSeparation(i);
                 }
             } else {
-                obstacles.remove(i);
+                obstaclePool.release(i);
             }
         }
 
@@ -119,127 +228,77 @@ public class GameManager {
         ensureMinimumObstacles();
     }
 
-    private void respawnObstacleWithSeparation(ObstacleCar obstacle) {
-        int maxAttempts = 10;
-        boolean respawned = false;
-
-        for (int attempt = 0; attempt < maxAttempts && !respawned; attempt++) {
-
-            int laneIndex = random.nextInt(GameConstants.LANE_COUNT);
-            double newX = GameConstants.LEFT_BOUNDARY + (laneIndex * GameConstants.LANE_WIDTH) +
-                    (GameConstants.LANE_WIDTH - obstacle.getWidth()) / 2;
-
-            double newY = -obstacle.getHeight() - random.nextInt(400) - (attempt * 50);
-
-            if (isRespawnPositionSafe(newX, newY, obstacle)) {
-                obstacle.setPosition(newX, newY);
-
-                DifficultyLevel diff = getDifficulty();
-                double minSpeed = diff.getMinSpeed(currentLevel);
-                double maxSpeed = diff.getMaxSpeed(currentLevel);
-                double newSpeed = minSpeed + (maxSpeed - minSpeed) * random.nextDouble();
-
-                obstacle.setSpeed(newSpeed);
-                obstacle.setActive(true);
-                respawned = true;
-
-                if (GameConstants.DEBUG_MODE) {
-                    System.out.println("🔄 Obstacle respawned with separation at lane " + laneIndex);
-                }
-            }
-        }
-
-        if (!respawned) {
-            obstacle.setActive(false);
-            if (GameConstants.DEBUG_MODE) {
-                System.out.println("⚠️ Obstacle deactivated - couldn't find safe respawn position");
-            }
-        }
-    }
-
-    private boolean isRespawnPositionSafe(double x, double y, ObstacleCar respawningObstacle) {
+    private void respawnObstacleWithSeparation(int obstacle) {
         final double MIN_DISTANCE = GameConstants.CAR_HEIGHT * 2;
+        double bottom = -obstacles.getHeight();
 
-        for (ObstacleCar obstacle : obstacles) {
-            if (obstacle != null && obstacle.isActive() && obstacle != respawningObstacle) {
-                double distance = Math.sqrt(
-                        Math.pow(x - obstacle.getX(), 2) +
-                                Math.pow(y - obstacle.getY(), 2));
-
-                if (distance < MIN_DISTANCE) {
-                    return false;
-                }
-            }
+        if (!spawnPlanner.plan(random, bottom - 850, bottom, MIN_DISTANCE, obstacles.getWidth())) {
+            obstacles.setActive(obstacle, false);
+            GameLogger.log(LogEvent.OBSTACLE_DEACTIVATED);
+            return;
         }
 
-        return true;
+        DifficultyLevel diff = getDifficulty();
+        double minSpeed = diff.getMinSpeed(currentLevel);
+        double maxSpeed = diff.getMaxSpeed(currentLevel);
+        double newSpeed = minSpeed + (maxSpeed - minSpeed) * random.nextDouble();
+
+        obstaclePool.respawn(obstacle, spawnPlanner.getPlannedX(), spawnPlanner.getPlannedY(), newSpeed);
+        GameLogger.log(LogEvent.OBSTACLE_RESPAWNED_SEPARATED, spawnPlanner.getPlannedLane());
     }
 
     private void maintainObstacleSeparation() {
         final double MIN_SEPARATION = GameConstants.CAR_HEIGHT * 1.5;
 
-        for (int i = 0; i < obstacles.size(); i++) {
-            ObstacleCar obstacle1 = obstacles.get(i);
-            if (obstacle1 == null || !obstacle1.isActive())
-                continue;
+        laneIndex.update(obstacles);
 
-            for (int j = i + 1; j < obstacles.size(); j++) {
-                ObstacleCar obstacle2 = obstacles.get(j);
-                if (obstacle2 == null || !obstacle2.isActive())
-                    continue;
+        for (int lane = 0; lane < laneIndex.getLaneCount(); lane++) {
+            for (int k = 1; k < laneIndex.getLaneSize(lane); k++) {
+                int leader = laneIndex.get(lane, k - 1);
+                int follower = laneIndex.get(lane, k);
 
-                double distance = Math.sqrt(
-                        Math.pow(obstacle1.getX() - obstacle2.getX(), 2) +
-                                Math.pow(obstacle1.getY() - obstacle2.getY(), 2));
+                double dx = obstacles.getX(leader) - obstacles.getX(follower);
+                double dy = obstacles.getY(leader) - obstacles.getY(follower);
+                if (dx * dx + dy * dy >= MIN_SEPARATION * MIN_SEPARATION)
+                    continue;
 
-                if (distance < MIN_SEPARATION) {
-                    if (obstacle1.getY() > obstacle2.getY()) {
-                        obstacle1.setSpeed(obstacle1.getSpeed() * 0.8);
-                    } else {
-                        obstacle2.setSpeed(obstacle2.getSpeed() * 0.8);
-                    }
+                double leaderSpeed = obstacles.getSpeed(leader);
+                double followerSpeed = obstacles.getSpeed(follower);
+                if (followerSpeed > leaderSpeed) {
+                    obstacles.setSpeed(follower, Math.max(leaderSpeed, followerSpeed * 0.8));
                 }
             }
         }
     }
 
-    private void respawnObstacle(ObstacleCar obstacle) {
-        if (obstacle == null)
+    private void respawnObstacle(int obstacle) {
+        if (obstacle < 0 || obstacle >= obstacles.size())
             return;
 
         try {
 
             int laneIndex = random.nextInt(GameConstants.LANE_COUNT);
             double newX = GameConstants.LEFT_BOUNDARY + (laneIndex * GameConstants.LANE_WIDTH) +
-                    (GameConstants.LANE_WIDTH - obstacle.getWidth()) / 2;
-
-            double newY = -obstacle.getHeight() - random.nextInt(300);
+                    (GameConstants.LANE_WIDTH - obstacles.getWidth()) / 2;
 
-            obstacle.setPosition(newX, newY);
+            double newY = -obstacles.getHeight() - random.nextInt(300);
 
             DifficultyLevel diff = getDifficulty();
             double minSpeed = diff.getMinSpeed(currentLevel);
             double maxSpeed = diff.getMaxSpeed(currentLevel);
             double newSpeed = minSpeed + (maxSpeed - minSpeed) * random.nextDouble();
 
-            obstacle.setSpeed(newSpeed);
-            obstacle.setActive(true);
+            obstaclePool.respawn(obstacle, newX, newY, newSpeed);
 
-            System.out.println("🔄 Obstacle respawned at lane " + laneIndex +
-                    " with speed " + String.format("%.1f", newSpeed));
+            GameLogger.log(LogEvent.OBSTACLE_RESPAWNED, laneIndex, newSpeed);
 
         } catch (Exception e) {
-            System.err.println("❌ Error respawning obstacle: " + e.getMessage());
+            GameLogger.log(LogEvent.RESPAWN_FAILED, e.getMessage());
         }
     }
 
     private void ensureMinimumObstacles() {
-        int activeCount = 0;
-        for (ObstacleCar obstacle : obstacles) {
-            if (obstacle != null && obstacle.isActive()) {
-                activeCount++;
-            }
-        }
+        int activeCount = obstacles.getActiveCount();
 
         int requiredCount = difficulty.getObstacleCount(currentLevel);
         if (activeCount < requiredCount) {
@@ -251,76 +310,37 @@ public class GameManager {
     }
 
     private void spawnNewObstacle() {
-        int maxAttempts = 20;
-        boolean spawned = false;
-
-        for (int attempt = 0; attempt < maxAttempts && !spawned; attempt++) {
-            try {
-                int laneIndex = random.nextInt(GameConstants.LANE_COUNT);
-                double x = GameConstants.LEFT_BOUNDARY + (laneIndex * GameConstants.LANE_WIDTH) +
-                        (GameConstants.LANE_WIDTH - GameConstants.CAR_WIDTH) / 2;
-                double y = -GameConstants.CAR_HEIGHT - random.nextInt(500);
-
-                if (isSpawnPositionSafe(x, y)) {
-
-                    DifficultyLevel diff = getDifficulty();
-                    double minSpeed = diff.getMinSpeed(currentLevel);
-                    double maxSpeed = diff.getMaxSpeed(currentLevel);
-                    double speed = minSpeed + (maxSpeed - minSpeed) * random.nextDouble();
-
-                    ObstacleCar newObstacle = new ObstacleCar(x, y, speed);
-                    obstacles.add(newObstacle);
-                    spawned = true;
-
-                    if (GameConstants.DEBUG_MODE) {
-                        System.out.println("✨ New obstacle spawned safely at lane " + laneIndex +
-                                " attempt: " + (attempt + 1));
-                    }
-                }
+        final double MIN_DISTANCE = GameConstants.CAR_HEIGHT * 2.5;
+        double bottom = -GameConstants.CAR_HEIGHT;
 
-            } catch (Exception e) {
-                System.err.println("❌ Error spawning obstacle (attempt " + attempt + "): " + e.getMessage());
+        try {
+            if (!spawnPlanner.plan(random, bottom - 500, bottom, MIN_DISTANCE, GameConstants.CAR_WIDTH)) {
+                GameLogger.log(LogEvent.OBSTACLE_SPAWN_GAVE_UP, GameConstants.LANE_COUNT);
+                return;
             }
-        }
 
-        if (!spawned && GameConstants.DEBUG_MODE) {
-            System.out.println("⚠️ Failed to spawn obstacle after " + maxAttempts + " attempts");
-        }
-    }
+            DifficultyLevel diff = getDifficulty();
+            double minSpeed = diff.getMinSpeed(currentLevel);
+            double maxSpeed = diff.getMaxSpeed(currentLevel);
+            double speed = minSpeed + (maxSpeed - minSpeed) * random.nextDouble();
 
-    private boolean isSpawnPositionSafe(double x, double y) {
-        final double MIN_DISTANCE = GameConstants.CAR_HEIGHT * 2.5;
+            obstaclePool.spawn(spawnPlanner.getPlannedX(), spawnPlanner.getPlannedY(), speed, 0);
 
-        for (ObstacleCar obstacle : obstacles) {
-            if (obstacle != null && obstacle.isActive()) {
-                double distance = Math.sqrt(
-                        Math.pow(x - obstacle.getX(), 2) +
-                                Math.pow(y - obstacle.getY(), 2));
+            GameLogger.log(LogEvent.OBSTACLE_SPAWNED, spawnPlanner.getPlannedLane(),
+                    spawnPlanner.getPlannedFreeSpace());
 
-                if (distance < MIN_DISTANCE) {
-                    return false;
-                }
-            }
+        } catch (Exception e) {
+            GameLogger.log(LogEvent.SPAWN_FAILED, e.getMessage());
         }
-
-        return true;
     }
 
     private void updateParticles() {
         try {
             if (particles != null) {
-                for (int i = particles.size() - 1; i >= 0; i--) {
-                    Particle particle = particles.get(i);
-                    if (particle != null) {
-                        particle.update();
-                        if (!particle.isActive()) {
-                            particles.remove(i);
-                        }
-                    }
-                }
+                particles.update();
             }
         } catch (Exception e) {
-            System.err.println("❌ Error updating particles: " + e.getMessage());
+            GameLogger.log(LogEvent.PARTICLES_FAILED, e.getMessage());
         }
     }
 
@@ -334,15 +354,15 @@ public class GameManager {
                 }
             }
         } catch (Exception e) {
-            System.err.println("❌ Error updating trees: " + e.getMessage());
+            GameLogger.log(LogEvent.TREES_FAILED, e.getMessage());
         }
     }
 
     private void checkCollisions() {
         try {
             if (player1 != null && obstacles != null && collisionManager != null) {
-                for (ObstacleCar obstacle : obstacles) {
-                    if (obstacle != null && obstacle.isActive()) {
+                for (int i = 0; i < obstacles.size(); i++) {
+                    if (obstacles.isActive(i)) {
 
                         collisionManager.checkAllCollisions(player1, player2, obstacles, this);
                         break;
@@ -350,7 +370,7 @@ public class GameManager {
                 }
             }
         } catch (Exception e) {
-            System.err.println("❌ Error checking collisions: " + e.getMessage());
+            GameLogger.log(LogEvent.COLLISIONS_FAILED, e.getMessage());
         }
     }
 
@@ -358,37 +378,38 @@ public class GameManager {
         try {
 
             if (obstacles != null) {
-                obstacles.removeIf(obstacle -> obstacle == null || !obstacle.isActive());
+                obstaclePool.releaseInactive();
             }
 
-            if (particles != null) {
-                particles.removeIf(particle -> particle == null || !particle.isActive());
-            }
         } catch (Exception e) {
-            System.err.println("❌ Error cleaning up objects: " + e.getMessage());
+            GameLogger.log(LogEvent.CLEANUP_FAILED, e.getMessage());
         }
     }
 
-    private void handleCollision(ObstacleCar obstacle) {
+    private void handleCollision(int obstacle) {
         try {
 
-            if (obstacle != null) {
-                obstacle.setActive(false);
+            if (obstacle >= 0 && obstacle < obstacles.size()) {
+                obstacles.setActive(obstacle, false);
             }
 
             if (player1 != null) {
 
-                System.out.println("⚠️ Collision detected!");
+                GameLogger.log(LogEvent.COLLISION_DETECTED);
             }
         } catch (Exception e) {
-            System.err.println("❌ Error handling collision: " + e.getMessage());
+            GameLogger.log(LogEvent.COLLISION_HANDLING_FAILED, e.getMessage());
         }
     }
 
     public void startNewGame() {
+        cancelFlow();
+        issuedCount = 0;
         currentLevel = 1;
         gameTimer = 30;
         totalSurvivalTime = 0;
+        countdownTimer = 0;
+        transitionCountdown = 0;
         gameState = GameState.COUNTDOWN;
 
         player1.reset(200, 750);
@@ -407,28 +428,154 @@ public class GameManager {
         gameState = GameState.LEVEL_TRANSITION;
     }
 
-    public void createCrashEffect(double x, double y) {
-        for (int i = 0; i < GameConstants.CRASH_PARTICLES; i++) {
-            double vx = (random.nextDouble() - 0.5) * 10;
-            double vy = (random.nextDouble() - 0.5) * 10;
-            Color[] colors = { Color.ORANGE, Color.RED, Color.YELLOW, Color.WHITE };
-            particles.add(new Particle(x, y, vx, vy,
-                    colors[random.nextInt(colors.length)], GameConstants.PARTICLE_LIFE));
+    public void execute(GameCommand command) {
+        switch (command) {
+            case START_COUNTDOWN -> startCountdown();
+            case SKIP_COUNTDOWN -> skipCountdown();
+            case BEGIN_LEVEL -> beginLevel();
+            case SKIP_TRANSITION -> skipTransition();
+            case PAUSE -> pause();
+            case RESUME -> resume();
+            case RETURN_TO_MENU -> returnToMenu();
+        }
+    }
+
+    private void issue(GameCommand command) {
+        if (ticking)
+            return;
+
+        if (issuedCount == issuedCommands.length) {
+            issuedCommands = Arrays.copyOf(issuedCommands, issuedCount * 2);
         }
+        issuedCommands[issuedCount++] = command.ordinal();
+    }
+
+    public int getAppliedCommandCount() {
+        return appliedCount;
+    }
+
+    public GameCommand getAppliedCommand(int index) {
+        return GameCommand.values()[appliedCommands[index]];
+    }
+
+    public void startCountdown() {
+        issue(GameCommand.START_COUNTDOWN);
+        countdownTimer = GameConstants.COUNTDOWN_TIME;
+        gameState = GameState.COUNTDOWN;
+        scheduleFlow(FLOW_COUNTDOWN);
+    }
+
+    public void skipCountdown() {
+        issue(GameCommand.SKIP_COUNTDOWN);
+        countdownTimer = 0;
+        startLevel();
+    }
+
+    public void beginLevel() {
+        issue(GameCommand.BEGIN_LEVEL);
+        startLevel();
+    }
+
+    private void startLevel() {
+        gameState = GameState.PLAYING;
+        gameTimer = (currentLevel == 1) ? GameConstants.GAME_DURATION : 15;
+        scheduleFlow(FLOW_LEVEL_SECOND);
+    }
+
+    public void skipTransition() {
+        issue(GameCommand.SKIP_TRANSITION);
+        transitionCountdown = 0;
+        startLevel();
+    }
+
+    public void pause() {
+        issue(GameCommand.PAUSE);
+        if (gameState == GameState.PLAYING) {
+            gameState = GameState.PAUSED;
+        }
+    }
+
+    public void resume() {
+        issue(GameCommand.RESUME);
+        if (gameState == GameState.PAUSED) {
+            gameState = GameState.PLAYING;
+        }
+    }
+
+    public void returnToMenu() {
+        issue(GameCommand.RETURN_TO_MENU);
+        cancelFlow();
+        gameState = GameState.MAIN_MENU;
+        inputManager.setMenuSelection(0);
+    }
+
+    private void scheduleFlow(int phase) {
+        flowClock.cancel(flowTimer);
+        flowTimer = flowClock.schedule(ticking ? GameConstants.TICK_RATE : GameConstants.TICK_RATE + 1,
+                flowListener, phase);
+    }
+
+    private void cancelFlow() {
+        flowClock.cancel(flowTimer);
+        flowTimer = TickScheduler.NO_TIMER;
+    }
+
+    private void onFlowTimer(int phase) {
+        flowTimer = TickScheduler.NO_TIMER;
+
+        switch (phase) {
+            case FLOW_COUNTDOWN -> {
+                if (--countdownTimer <= 0) {
+                    startLevel();
+                } else {
+                    scheduleFlow(FLOW_COUNTDOWN);
+                }
+            }
+            case FLOW_LEVEL_SECOND -> {
+                gameTimer--;
+                totalSurvivalTime++;
+                if (gameTimer <= 0) {
+                    completeLevel();
+                } else {
+                    scheduleFlow(FLOW_LEVEL_SECOND);
+                }
+            }
+            case FLOW_TRANSITION -> {
+                if (--transitionCountdown <= 0) {
+                    startLevel();
+                } else {
+                    scheduleFlow(FLOW_TRANSITION);
+                }
+            }
+        }
+    }
+
+    private void completeLevel() {
+        if (player1.isAlive() && player2.isAlive()) {
+            nextLevel();
+            transitionCountdown = GameConstants.LEVEL_TRANSITION_TIME;
+            scheduleFlow(FLOW_TRANSITION);
+        } else {
+            gameState = GameState.GAME_OVER;
+        }
+    }
+
+    public void createCrashEffect(double x, double y) {
+        particles.emitCrash(x, y);
     }
 
     private void initializeObstaclesForLevel() {
-        obstacles.clear();
-        String[] carTypes = { "gamecar1", "gamecar2", "gamecar3", "gamecar4" };
+        obstaclePool.releaseAll();
+        obstacles.setLevel(difficulty, currentLevel);
         int obstacleCount = difficulty.getObstacleCount(currentLevel);
+        obstaclePool.prewarm(obstacleCount);
 
         for (int i = 0; i < obstacleCount; i++) {
             double x = (i % 2 == 0) ? GameConstants.LEFT_BOUNDARY + random.nextInt(500)
                     : GameConstants.CENTER_DIVIDER_RIGHT + random.nextInt(500);
             double y = -200 * (i + 1);
 
-            obstacles.add(new ObstacleCar(x, y, carTypes[random.nextInt(carTypes.length)],
-                    difficulty, currentLevel, random));
+            obstaclePool.spawnForLevel(x, y, random.nextInt(ObstacleField.CAR_TYPES.length));
         }
     }
 
@@ -452,6 +599,14 @@ public class GameManager {
         return currentLevel;
     }
 
+    public double getRoadOffset() {
+        return roadOffset;
+    }
+
+    public double getRoadOffset(double interpolation) {
+        return previousRoadOffset + (roadOffset - previousRoadOffset) * interpolation;
+    }
+
     public int getGameTimer() {
         return gameTimer;
     }
@@ -460,6 +615,18 @@ public class GameManager {
         this.gameTimer = timer;
     }
 
+    public int getCountdownTimer() {
+        return countdownTimer;
+    }
+
+    public int getTransitionCountdown() {
+        return transitionCountdown;
+    }
+
+    public TickScheduler getScheduler() {
+        return scheduler;
+    }
+
     public int getTotalSurvivalTime() {
         return totalSurvivalTime;
     }
@@ -476,18 +643,45 @@ public class GameManager {
         return player2;
     }
 
-    public List<ObstacleCar> getObstacles() {
+    public ObstacleField getObstacles() {
         return obstacles;
     }
 
+    public LaneIndex getLaneIndex() {
+        return laneIndex;
+    }
+
+    public ObstaclePool getObstaclePool() {
+        return obstaclePool;
+    }
+
     public List<TreeObject> getTrees() {
         return trees;
     }
 
-    public List<Particle> getParticles() {
+    public ParticleSystem getParticles() {
         return particles;
     }
 
+    private GameRandom stream(String subsystem) {
+        return streams.computeIfAbsent(subsystem, rootRandom::derive);
+    }
+
+    public void reseed(long seed) {
+        rootRandom.setSeed(seed);
+        for (Map.Entry<String, GameRandom> entry : streams.entrySet()) {
+            entry.getValue().setSeed(rootRandom.deriveSeed(entry.getKey()));
+        }
+    }
+
+    public long getSeed() {
+        return rootRandom.getSeed();
+    }
+
+    public FrameMetrics getMetrics() {
+        return metrics;
+    }
+
     public InputManager getInputManager() {
         return inputManager;
     }
@@ -0,0 +1,97 @@
+package managers;
+
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class GameRandom extends Random {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final double DOUBLE_UNIT = 0x1.0p-53;
+    private static final AtomicLong seedUniquifier = new AtomicLong(System.nanoTime());
+
+    private long seed;
+    private long state;
+
+    public GameRandom(long seed) {
+        super(seed);
+    }
+
+    public static GameRandom unseeded() {
+        return new GameRandom(newSeed());
+    }
+
+    public static long newSeed() {
+        return mix64(seedUniquifier.addAndGet(GOLDEN_GAMMA) ^ System.nanoTime());
+    }
+
+    @Override
+    public void setSeed(long seed) {
+        this.seed = seed;
+        this.state = seed;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public GameRandom split() {
+        return new GameRandom(mix64(nextLong()));
+    }
+
+    public GameRandom derive(String subsystem) {
+        return new GameRandom(deriveSeed(subsystem));
+    }
+
+    public long deriveSeed(String subsystem) {
+        long salt = subsystem != null ? subsystem.hashCode() : 0;
+        return mix64(seed ^ mix64(salt * GOLDEN_GAMMA + GOLDEN_GAMMA));
+    }
+
+    @Override
+    protected int next(int bits) {
+        return (int) (nextLong() >>> (64 - bits));
+    }
+
+    @Override
+    public long nextLong() {
+        state += GOLDEN_GAMMA;
+        return mix64(state);
+    }
+
+    @Override
+    public int nextInt() {
+        return (int) nextLong();
+    }
+
+    @Override
+    public int nextInt(int bound) {
+        if (bound <= 0)
+            throw new IllegalArgumentException("bound must be positive");
+
+        long product = (nextLong() >>> 32) * bound;
+        return (int) (product >>> 32);
+    }
+
+    @Override
+    public double nextDouble() {
+        return (nextLong() >>> 11) * DOUBLE_UNIT;
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        return nextLong() < 0;
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("GameRandom[seed=%d]", seed);
+    }
+}
@@ -0,0 +1,275 @@
+package managers;
+
+import enums.DifficultyLevel;
+import interfaces.GameConstants;
+import models.Player;
+import models.WorldSnapshot;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+public class HudLayer {
+
+    private static final Color PANEL_COLOR = new Color(0, 0, 0, 180);
+    private static final Color BOTTOM_PANEL_COLOR = new Color(0, 0, 0, 150);
+    private static final Color[] TIMER_PANEL_COLORS = {
+            new Color(255, 0, 0, 180), new Color(255, 200, 0, 180), new Color(0, 0, 0, 180)
+    };
+
+    private static final int STATUS_CRASHED = 0;
+    private static final int STATUS_INVULNERABLE = 1;
+    private static final int STATUS_ACTIVE = 2;
+
+    private static final String WARNING = "🚫 DILARANG MELEWATI SEMUA MARKA MERAH! 🚫";
+
+    private final Widget timerPanel = new Widget(550, 15, 200, 70);
+    private final Widget levelPanel = new Widget(320, 15, 220, 70);
+    private final Widget player1Panel = new Widget(20, 15, 280, 120);
+    private final Widget player2Panel = new Widget(1020, 15, 280, 120);
+    private final Widget bottomPanel = new Widget(50, 810, 1200, 80);
+    private final Widget bottomInfo = new Widget(50, 832, 1200, 52);
+
+    private long repaints = 0;
+    private long frames = 0;
+    private boolean refresh = true;
+
+    public void draw(Graphics2D g, WorldSnapshot frame) {
+        draw(g, frame, 1);
+    }
+
+    public void draw(Graphics2D g, WorldSnapshot frame, int refreshInterval) {
+        int timer = frame.getGameTimer();
+        int level = frame.getCurrentLevel();
+        refresh = frames++ % Math.max(1, refreshInterval) == 0;
+
+        if (timerPanel.needsPaint(timer, refresh)) {
+            paintTimerPanel(timerPanel.begin(g), timer);
+            timerPanel.end();
+            repaints++;
+        }
+        timerPanel.draw(g);
+
+        if (levelPanel.needsPaint(level, refresh)) {
+            paintLevelPanel(levelPanel.begin(g), level);
+            levelPanel.end();
+            repaints++;
+        }
+        levelPanel.draw(g);
+
+        drawPlayerPanel(g, player1Panel, frame.getPlayer1());
+        drawPlayerPanel(g, player2Panel, frame.getPlayer2());
+
+        if (bottomPanel.needsPaint(0, refresh)) {
+            paintBottomPanel(bottomPanel.begin(g));
+            bottomPanel.end();
+            repaints++;
+        }
+        bottomPanel.draw(g);
+
+        DifficultyLevel difficulty = frame.getDifficulty();
+        long infoKey = ((long) difficulty.ordinal() << 56) | ((long) (level & 0xFFFF) << 40) |
+                ((long) (timer & 0xFFFF) << 24) | (frame.getTotalSurvivalTime() & 0xFFFFFFL);
+        if (bottomInfo.needsPaint(infoKey, refresh)) {
+            paintBottomInfo(bottomInfo.begin(g), frame);
+            bottomInfo.end();
+            repaints++;
+        }
+        bottomInfo.draw(g);
+    }
+
+    private void drawPlayerPanel(Graphics2D g, Widget panel, Player player) {
+        if (player == null)
+            return;
+
+        long key = ((long) player.getStatusColor().getRGB() << 32) |
+                ((long) (player.getLevelsCompleted() & 0xFFFFFF) << 8) | ((player.getLives() & 0x3F) << 2) |
+                getPlayerStatus(player);
+        if (panel.needsPaint(key, refresh)) {
+            paintPlayerPanel(panel.begin(g), player, panel.x, panel.y);
+            panel.end();
+            repaints++;
+        }
+        panel.draw(g);
+    }
+
+    private void paintTimerPanel(Graphics2D g, int timer) {
+        g.setColor(TIMER_PANEL_COLORS[getTimerColorIndex(timer)]);
+        g.fillRoundRect(550, 15, 200, 70, 15, 15);
+        g.setColor(Color.WHITE);
+        g.setFont(FontCache.get("Arial", Font.BOLD, 32));
+        g.drawString("Waktu: " + timer, 565, 60);
+    }
+
+    private void paintLevelPanel(Graphics2D g, int level) {
+        g.setColor(PANEL_COLOR);
+        g.fillRoundRect(320, 15, 220, 70, 15, 15);
+        g.setColor(Color.YELLOW);
+        g.setFont(FontCache.get("Arial", Font.BOLD, 26));
+        g.drawString("LEVEL " + level, 335, 45);
+    }
+
+    private void paintPlayerPanel(Graphics2D g, Player player, int x, int y) {
+        g.setColor(PANEL_COLOR);
+        g.fillRoundRect(x, y, 280, 120, 15, 15);
+
+        g.setColor(player.getStatusColor());
+        g.setFont(FontCache.get("Arial", Font.BOLD, 20));
+        g.drawString(player.getName(), x + 10, y + 25);
+
+        g.setColor(Color.WHITE);
+        g.setFont(FontCache.get("Arial", Font.BOLD, 16));
+        g.drawString("Nyawa:", x + 10, y + 45);
+
+        for (int i = 0; i < GameConstants.MAX_PLAYER_LIVES; i++) {
+            g.setColor(i < player.getLives() ? Color.RED : Color.DARK_GRAY);
+            g.fillOval(x + 65 + i * 20, y + 30, 15, 15);
+        }
+
+        g.setColor(Color.CYAN);
+        g.setFont(FontCache.get("Arial", Font.BOLD, 14));
+        g.drawString("Level Selesai: " + player.getLevelsCompleted(), x + 10, y + 65);
+
+        int status = getPlayerStatus(player);
+        g.setColor(getPlayerStatusColor(status));
+        g.setFont(FontCache.get("Arial", Font.BOLD, 16));
+        g.drawString(getPlayerStatusText(status), x + 10, y + 85);
+    }
+
+    private void paintBottomPanel(Graphics2D g) {
+        g.setColor(BOTTOM_PANEL_COLOR);
+        g.fillRoundRect(50, 810, 1200, 80, 15, 15);
+
+        g.setColor(Color.RED);
+        g.setFont(FontCache.get("Arial", Font.BOLD, 16));
+        drawCenteredText(g, WARNING, 830);
+    }
+
+    private void paintBottomInfo(Graphics2D g, WorldSnapshot frame) {
+        int level = frame.getCurrentLevel();
+        DifficultyLevel diff = frame.getDifficulty();
+
+        g.setColor(Color.YELLOW);
+        g.setFont(FontCache.get("Arial", Font.PLAIN, 14));
+        String levelInfo = String.format("Level %d - %d obstacles | Speed: %d-%d",
+                level,
+                diff.getObstacleCount(level),
+                diff.getMinSpeed(level),
+                diff.getMaxSpeed(level));
+        drawCenteredText(g, levelInfo, 850);
+
+        g.setColor(Color.CYAN);
+        g.setFont(FontCache.get("Arial", Font.PLAIN, 12));
+        String challengeInfo = String.format("Bertahan %d detik lagi untuk Level %d! Total survival: %ds",
+                frame.getGameTimer(),
+                level + 1,
+                frame.getTotalSurvivalTime());
+        drawCenteredText(g, challengeInfo, 870);
+    }
+
+    private void drawCenteredText(Graphics2D g, String text, int y) {
+        FontMetrics fm = g.getFontMetrics();
+        int x = (GameConstants.SCREEN_WIDTH - fm.stringWidth(text)) / 2;
+        g.drawString(text, x, y);
+    }
+
+    private int getTimerColorIndex(int timeLeft) {
+        if (timeLeft <= 5)
+            return 0;
+        if (timeLeft <= 10)
+            return 1;
+        return 2;
+    }
+
+    private int getPlayerStatus(Player player) {
+        if (!player.isAlive())
+            return STATUS_CRASHED;
+        if (player.isInvulnerable())
+            return STATUS_INVULNERABLE;
+        return STATUS_ACTIVE;
+    }
+
+    private String getPlayerStatusText(int status) {
+        return switch (status) {
+            case STATUS_CRASHED -> "TABRAKAN";
+            case STATUS_INVULNERABLE -> "KEBAL";
+            default -> "AKTIF";
+        };
+    }
+
+    private Color getPlayerStatusColor(int status) {
+        return switch (status) {
+            case STATUS_CRASHED -> Color.RED;
+            case STATUS_INVULNERABLE -> Color.YELLOW;
+            default -> Color.GREEN;
+        };
+    }
+
+    public void invalidate() {
+        timerPanel.invalidate();
+        levelPanel.invalidate();
+        player1Panel.invalidate();
+        player2Panel.invalidate();
+        bottomPanel.invalidate();
+        bottomInfo.invalidate();
+    }
+
+    public long getRepaintCount() {
+        return repaints;
+    }
+
+    private static final class Widget {
+
+        final int x;
+        final int y;
+        final int width;
+        final int height;
+
+        private BufferedImage image;
+        private Graphics2D graphics;
+        private boolean valid;
+        private long key;
+
+        Widget(int x, int y, int width, int height) {
+            this.x = x;
+            this.y = y;
+            this.width = width;
+            this.height = height;
+        }
+
+        boolean needsPaint(long nextKey, boolean refresh) {
+            boolean stale = !valid || image == null;
+            if (!stale && (!refresh || key == nextKey))
+                return false;
+
+            key = nextKey;
+            return true;
+        }
+
+        Graphics2D begin(Graphics2D target) {
+            if (image == null) {
+                image = AssetManager.createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+            }
+
+            graphics = image.createGraphics();
+            graphics.setComposite(AlphaComposite.Clear);
+            graphics.fillRect(0, 0, width, height);
+            graphics.setComposite(AlphaComposite.SrcOver);
+            graphics.setRenderingHints(target.getRenderingHints());
+            graphics.translate(-x, -y);
+            return graphics;
+        }
+
+        void end() {
+            graphics.dispose();
+            graphics = null;
+            valid = true;
+        }
+
+        void draw(Graphics2D g) {
+            g.drawImage(image, x, y, null);
+        }
+
+        void invalidate() {
+            valid = false;
+        }
+    }
+}
@@ -2,82 +2,153 @@ package managers;
 
 import models.Player;
 import enums.GameState;
-import interfaces.GameConstants;
+import enums.LogEvent;
+import interfaces.InputListener;
 import java.awt.event.KeyEvent;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.Arrays;
 
 public class InputManager {
     
-    private Set<Integer> keysPressed = new HashSet<>();
-    private Set<Integer> keysJustPressed = new HashSet<>();
+    public static final int KEY_CODE_LIMIT = 1024;
+    private static final int KEY_WORDS = KEY_CODE_LIMIT >>> 6;
+    
+    private final long[] keysPressed = new long[KEY_WORDS];
+    private final long[] keysJustPressed = new long[KEY_WORDS];
+    private int activeKeyCount = 0;
     private int menuSelection = 0;
+    private int appliedMovement = 0;
+    private int latchedMovement = 0;
+    
+    public static final int[] MOVEMENT_KEYS = {
+        KeyEvent.VK_W, KeyEvent.VK_S, KeyEvent.VK_A, KeyEvent.VK_D,
+        KeyEvent.VK_UP, KeyEvent.VK_DOWN, KeyEvent.VK_LEFT, KeyEvent.VK_RIGHT
+    };
     
-    private long lastInputTime = 0;
-    private static final long INPUT_COOLDOWN = 16;
+    private static final int P1_UP = 1;
+    private static final int P1_DOWN = 1 << 1;
+    private static final int P1_LEFT = 1 << 2;
+    private static final int P1_RIGHT = 1 << 3;
+    private static final int P2_UP = 1 << 4;
+    private static final int P2_DOWN = 1 << 5;
+    private static final int P2_LEFT = 1 << 6;
+    private static final int P2_RIGHT = 1 << 7;
+    private static final int P1_MOVEMENT = P1_UP | P1_DOWN | P1_LEFT | P1_RIGHT;
+    private static final int P2_MOVEMENT = P2_UP | P2_DOWN | P2_LEFT | P2_RIGHT;
+    
+    private final InputQueue queue = new InputQueue();
+    private final InputListener queuedInput = this::applyQueued;
+    private InputListener forward;
+    private long sampledEvents = 0;
+    private long lastLatencyMillis = 0;
+    private long maxLatencyMillis = 0;
+    
+    public boolean enqueue(int keyCode, boolean pressed, long when) {
+        return queue.offer(keyCode, pressed, when);
+    }
+    
+    public int sample(InputListener listener) {
+        forward = listener;
+        try {
+            return queue.drain(queuedInput);
+        } finally {
+            forward = null;
+        }
+    }
+    
+    private void applyQueued(int keyCode, boolean pressed, long when) {
+        if (pressed) {
+            keyPressed(keyCode);
+        } else {
+            keyReleased(keyCode);
+        }
+        
+        sampledEvents++;
+        if (when > 0) {
+            lastLatencyMillis = Math.max(0, System.currentTimeMillis() - when);
+            maxLatencyMillis = Math.max(maxLatencyMillis, lastLatencyMillis);
+        }
+        
+        if (forward != null) {
+            forward.onKey(keyCode, pressed, when);
+        }
+    }
     
     public void keyPressed(int keyCode) {
-        if (!keysPressed.contains(keyCode)) {
-            keysJustPressed.add(keyCode);
+        if (!isTracked(keyCode))
+            return;
+        
+        int word = keyCode >>> 6;
+        long bit = 1L << keyCode;
+        if ((keysPressed[word] & bit) == 0) {
+            keysPressed[word] |= bit;
+            keysJustPressed[word] |= bit;
+            activeKeyCount++;
+            latchedMovement |= movementBit(keyCode);
         }
-        keysPressed.add(keyCode);
     }
     
     public void keyReleased(int keyCode) {
-        keysPressed.remove(keyCode);
-        keysJustPressed.remove(keyCode);
+        if (!isTracked(keyCode))
+            return;
+        
+        int word = keyCode >>> 6;
+        long bit = 1L << keyCode;
+        if ((keysPressed[word] & bit) != 0) {
+            keysPressed[word] &= ~bit;
+            activeKeyCount--;
+        }
+        keysJustPressed[word] &= ~bit;
     }
     
     public void clearJustPressed() {
-        keysJustPressed.clear();
+        Arrays.fill(keysJustPressed, 0L);
+        latchedMovement = 0;
     }
     
     public void handleMovement(Player player1, Player player2, GameState gameState) {
+        appliedMovement = 0;
         if (gameState != GameState.PLAYING) {
             return;
         }
         
-        long currentTime = System.currentTimeMillis();
-        if (currentTime - lastInputTime < INPUT_COOLDOWN) {
-            return;
-        }
-        lastInputTime = currentTime;
+        int movement = getMovementMask() | latchedMovement;
+        appliedMovement = movement;
         
         if (player1.isAlive()) {
-            if (keysPressed.contains(KeyEvent.VK_W)) {
+            if ((movement & P1_UP) != 0) {
                 player1.moveUp();
             }
-            if (keysPressed.contains(KeyEvent.VK_S)) {
+            if ((movement & P1_DOWN) != 0) {
                 player1.moveDown();
             }
-            if (keysPressed.contains(KeyEvent.VK_A)) {
+            if ((movement & P1_LEFT) != 0) {
                 player1.moveLeft();
             }
-            if (keysPressed.contains(KeyEvent.VK_D)) {
+            if ((movement & P1_RIGHT) != 0) {
                 player1.moveRight();
             }
         }
         
         if (player2.isAlive()) {
-            if (keysPressed.contains(KeyEvent.VK_UP)) {
+            if ((movement & P2_UP) != 0) {
                 player2.moveUp();
             }
-            if (keysPressed.contains(KeyEvent.VK_DOWN)) {
+            if ((movement & P2_DOWN) != 0) {
                 player2.moveDown();
             }
-            if (keysPressed.contains(KeyEvent.VK_LEFT)) {
+            if ((movement & P2_LEFT) != 0) {
                 player2.moveLeft();
             }
-            if (keysPressed.contains(KeyEvent.VK_RIGHT)) {
+            if ((movement & P2_RIGHT) != 0) {
                 player2.moveRight();
             }
         }
     }
     
-    public int handleMenuInput(KeyEvent e, int maxOptions) {
+    public int handleMenuInput(int keyCode, int maxOptions) {
         int oldSelection = menuSelection;
         
-        switch (e.getKeyCode()) {
+        switch (keyCode) {
             case KeyEvent.VK_UP, KeyEvent.VK_W -> {
                 menuSelection = Math.max(0, menuSelection - 1);
             }
@@ -87,29 +158,23 @@ public class InputManager {
         }
         
         if (oldSelection != menuSelection) {
-            System.out.println("🎮 Menu selection: " + menuSelection);
+            GameLogger.log(LogEvent.MENU_SELECTION, menuSelection);
         }
         
         return menuSelection;
     }
     
     public boolean isPlayer1Moving() {
-        return keysPressed.contains(KeyEvent.VK_W) ||
-               keysPressed.contains(KeyEvent.VK_A) ||
-               keysPressed.contains(KeyEvent.VK_S) ||
-               keysPressed.contains(KeyEvent.VK_D);
+        return (getMovementMask() & P1_MOVEMENT) != 0;
     }
     
     public boolean isPlayer2Moving() {
-        return keysPressed.contains(KeyEvent.VK_UP) ||
-               keysPressed.contains(KeyEvent.VK_LEFT) ||
-               keysPressed.contains(KeyEvent.VK_DOWN) ||
-               keysPressed.contains(KeyEvent.VK_RIGHT);
+        return (getMovementMask() & P2_MOVEMENT) != 0;
     }
     
     public boolean isKeyComboPressed(int... keyCodes) {
         for (int keyCode : keyCodes) {
-            if (!keysPressed.contains(keyCode)) {
+            if (!isKeyPressed(keyCode)) {
                 return false;
             }
         }
@@ -117,16 +182,16 @@ public class InputManager {
     }
     
     public boolean wasKeyJustPressed(int keyCode) {
-        return keysJustPressed.contains(keyCode);
+        return isTracked(keyCode) && (keysJustPressed[keyCode >>> 6] & (1L << keyCode)) != 0;
     }
     
     public String getActiveKeysString() {
-        if (keysPressed.isEmpty()) {
+        if (activeKeyCount == 0) {
             return "No keys pressed";
         }
         
         StringBuilder sb = new StringBuilder("Active keys: ");
-        for (int key : keysPressed) {
+        for (int key : getAllPressedKeys()) {
             sb.append(KeyEvent.getKeyText(key)).append(" ");
         }
         return sb.toString().trim();
@@ -141,9 +206,49 @@ public class InputManager {
     }
     
     public void clearAllInputs() {
-        keysPressed.clear();
-        keysJustPressed.clear();
-        System.out.println("🛑 All inputs cleared");
+        queue.clear();
+        Arrays.fill(keysPressed, 0L);
+        Arrays.fill(keysJustPressed, 0L);
+        activeKeyCount = 0;
+        latchedMovement = 0;
+        GameLogger.log(LogEvent.INPUTS_CLEARED);
+    }
+
+    public int getMovementMask() {
+        int mask = 0;
+        for (int i = 0; i < MOVEMENT_KEYS.length; i++) {
+            if (isKeyPressed(MOVEMENT_KEYS[i])) {
+                mask |= 1 << i;
+            }
+        }
+        return mask;
+    }
+    
+    public void setMovementMask(int mask) {
+        for (int i = 0; i < MOVEMENT_KEYS.length; i++) {
+            if ((mask & (1 << i)) != 0) {
+                keyPressed(MOVEMENT_KEYS[i]);
+            } else {
+                keyReleased(MOVEMENT_KEYS[i]);
+            }
+        }
+    }
+    
+    private static int movementBit(int keyCode) {
+        for (int i = 0; i < MOVEMENT_KEYS.length; i++) {
+            if (MOVEMENT_KEYS[i] == keyCode) {
+                return 1 << i;
+            }
+        }
+        return 0;
+    }
+    
+    private static boolean isTracked(int keyCode) {
+        return keyCode >= 0 && keyCode < KEY_CODE_LIMIT;
+    }
+    
+    public int getAppliedMovement() {
+        return appliedMovement;
     }
     
     public int getMenuSelection() {
@@ -155,22 +260,48 @@ public class InputManager {
     }
     
     public boolean isKeyPressed(int keyCode) {
-        return keysPressed.contains(keyCode);
+        return isTracked(keyCode) && (keysPressed[keyCode >>> 6] & (1L << keyCode)) != 0;
     }
     
-    public Set<Integer> getAllPressedKeys() {
-        return new HashSet<>(keysPressed);
+    public int[] getAllPressedKeys() {
+        int[] keys = new int[activeKeyCount];
+        int count = 0;
+        for (int word = 0; word < KEY_WORDS; word++) {
+            long bits = keysPressed[word];
+            while (bits != 0) {
+                keys[count++] = (word << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+            }
+        }
+        return keys;
     }
     
     public int getActiveKeyCount() {
-        return keysPressed.size();
+        return activeKeyCount;
+    }
+    
+    public InputQueue getQueue() {
+        return queue;
+    }
+    
+    public long getSampledEventCount() {
+        return sampledEvents;
+    }
+    
+    public long getLastLatencyMillis() {
+        return lastLatencyMillis;
+    }
+    
+    public long getMaxLatencyMillis() {
+        return maxLatencyMillis;
     }
     
     public void printInputStats() {
-        System.out.println("📊 INPUT STATS:");
-        System.out.println("   Active keys: " + keysPressed.size());
-        System.out.println("   Menu selection: " + menuSelection);
-        System.out.println("   Player 1 moving: " + isPlayer1Moving());
-        System.out.println("   Player 2 moving: " + isPlayer2Moving());
+        GameLogger.log(LogEvent.INPUT_STATS);
+        GameLogger.log(LogEvent.INPUT_STATS_KEYS, activeKeyCount);
+        GameLogger.log(LogEvent.INPUT_STATS_MENU, menuSelection);
+        GameLogger.log(LogEvent.INPUT_STATS_MOVING, String.valueOf(isPlayer1Moving()), 1);
+        GameLogger.log(LogEvent.INPUT_STATS_MOVING, String.valueOf(isPlayer2Moving()), 2);
+        GameLogger.log(LogEvent.INPUT_STATS_QUEUE, sampledEvents, queue.getDroppedCount(), maxLatencyMillis);
     }
 }
\ No newline at end of file
@@ -0,0 +1,82 @@
+package managers;
+
+import interfaces.InputListener;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class InputQueue {
+
+    private final int capacity;
+    private final int mask;
+    private final int[] keyCodes;
+    private final long[] timestamps;
+    private final boolean[] pressed;
+
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long dropped;
+
+    public InputQueue() {
+        this(256);
+    }
+
+    public InputQueue(int minimumCapacity) {
+        capacity = Integer.highestOneBit(Math.max(2, minimumCapacity - 1)) << 1;
+        mask = capacity - 1;
+        keyCodes = new int[capacity];
+        timestamps = new long[capacity];
+        pressed = new boolean[capacity];
+    }
+
+    public boolean offer(int keyCode, boolean isPressed, long when) {
+        long sequence = tail.get();
+        if (sequence - head.get() >= capacity) {
+            dropped++;
+            return false;
+        }
+
+        int slot = (int) sequence & mask;
+        keyCodes[slot] = keyCode;
+        timestamps[slot] = when;
+        pressed[slot] = isPressed;
+        tail.lazySet(sequence + 1);
+        return true;
+    }
+
+    public int drain(InputListener listener) {
+        long sequence = head.get();
+        long available = tail.get();
+        int drained = 0;
+
+        while (sequence < available) {
+            int slot = (int) sequence & mask;
+            int keyCode = keyCodes[slot];
+            boolean isPressed = pressed[slot];
+            long when = timestamps[slot];
+            head.lazySet(++sequence);
+            drained++;
+            listener.onKey(keyCode, isPressed, when);
+        }
+        return drained;
+    }
+
+    public void clear() {
+        head.lazySet(tail.get());
+    }
+
+    public int size() {
+        return (int) (tail.get() - head.get());
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public long getDroppedCount() {
+        return dropped;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("InputQueue[size=%d/%d, dropped=%d]", size(), capacity, dropped);
+    }
+}
@@ -0,0 +1,165 @@
+package managers;
+
+import interfaces.GameConstants;
+import models.ObstacleField;
+import java.util.Arrays;
+
+public class LaneIndex {
+
+    private static final int INITIAL_LANE_CAPACITY = 16;
+    private static final int UNLISTED = -1;
+
+    private final int[][] lanes;
+    private final int[] laneSizes;
+
+    private int[] listedLane;
+    private int[] leaders;
+    private long insertionShifts;
+    private long laneChanges;
+
+    public LaneIndex() {
+        this(GameConstants.LANE_COUNT);
+    }
+
+    public LaneIndex(int laneCount) {
+        lanes = new int[Math.max(1, laneCount)][INITIAL_LANE_CAPACITY];
+        laneSizes = new int[lanes.length];
+        listedLane = new int[INITIAL_LANE_CAPACITY];
+        leaders = new int[INITIAL_LANE_CAPACITY];
+        Arrays.fill(listedLane, UNLISTED);
+    }
+
+    public void update(ObstacleField obstacles) {
+        int count = obstacles.size();
+        ensureIdCapacity(count);
+
+        for (int lane = 0; lane < lanes.length; lane++) {
+            dropStaleEntries(lane, obstacles);
+        }
+
+        for (int i = 0; i < count; i++) {
+            if (!obstacles.isActive(i))
+                continue;
+
+            int lane = laneOf(obstacles, i);
+            if (listedLane[i] != lane) {
+                append(lane, i);
+            }
+        }
+
+        for (int lane = 0; lane < lanes.length; lane++) {
+            insertionSort(lane, obstacles);
+            linkLeaders(lane);
+        }
+    }
+
+    private void dropStaleEntries(int lane, ObstacleField obstacles) {
+        int[] ids = lanes[lane];
+        int size = laneSizes[lane];
+        int kept = 0;
+
+        for (int k = 0; k < size; k++) {
+            int id = ids[k];
+            boolean present = id < obstacles.size() && obstacles.isActive(id);
+            boolean sameLane = present && laneOf(obstacles, id) == lane;
+
+            if (sameLane && listedLane[id] == lane) {
+                ids[kept++] = id;
+                continue;
+            }
+
+            if (present && !sameLane) {
+                laneChanges++;
+            }
+            if (listedLane[id] == lane) {
+                listedLane[id] = UNLISTED;
+            }
+        }
+
+        laneSizes[lane] = kept;
+    }
+
+    private void append(int lane, int id) {
+        int size = laneSizes[lane];
+        if (size == lanes[lane].length) {
+            lanes[lane] = Arrays.copyOf(lanes[lane], size * 2);
+        }
+        lanes[lane][size] = id;
+        laneSizes[lane] = size + 1;
+        listedLane[id] = lane;
+    }
+
+    private void insertionSort(int lane, ObstacleField obstacles) {
+        int[] ids = lanes[lane];
+        int size = laneSizes[lane];
+
+        for (int k = 1; k < size; k++) {
+            int id = ids[k];
+            double y = obstacles.getY(id);
+            int j = k - 1;
+
+            while (j >= 0 && obstacles.getY(ids[j]) < y) {
+                ids[j + 1] = ids[j];
+                j--;
+                insertionShifts++;
+            }
+            ids[j + 1] = id;
+        }
+    }
+
+    private void linkLeaders(int lane) {
+        int[] ids = lanes[lane];
+        int size = laneSizes[lane];
+
+        for (int k = 0; k < size; k++) {
+            leaders[ids[k]] = k == 0 ? -1 : ids[k - 1];
+        }
+    }
+
+    private void ensureIdCapacity(int count) {
+        if (count <= listedLane.length)
+            return;
+
+        int newCapacity = Math.max(count, listedLane.length * 2);
+        int oldCapacity = listedLane.length;
+        listedLane = Arrays.copyOf(listedLane, newCapacity);
+        leaders = Arrays.copyOf(leaders, newCapacity);
+        Arrays.fill(listedLane, oldCapacity, newCapacity, UNLISTED);
+    }
+
+    private int laneOf(ObstacleField obstacles, int i) {
+        return Math.max(0, Math.min(lanes.length - 1, obstacles.getLane(i)));
+    }
+
+    public int getLeader(int obstacle) {
+        if (obstacle < 0 || obstacle >= listedLane.length || listedLane[obstacle] == UNLISTED)
+            return -1;
+        return leaders[obstacle];
+    }
+
+    public int getLaneCount() {
+        return lanes.length;
+    }
+
+    public int getLaneSize(int lane) {
+        return laneSizes[lane];
+    }
+
+    public int get(int lane, int position) {
+        return lanes[lane][position];
+    }
+
+    public long getInsertionShifts() {
+        return insertionShifts;
+    }
+
+    public long getLaneChanges() {
+        return laneChanges;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("LaneIndex[lanes=%s, shifts=%d, laneChanges=%d]",
+                Arrays.toString(laneSizes), insertionShifts, laneChanges);
+    }
+}
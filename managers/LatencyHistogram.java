@@ -0,0 +1,84 @@
+package managers;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int SUB_BUCKET_HALF = SUB_BUCKET_COUNT / 2;
+    private static final int MAX_MAGNITUDE = 40;
+
+    private final AtomicLongArray counts;
+    private volatile long totalCount;
+    private volatile long totalNanos;
+    private volatile long maxNanos;
+
+    public LatencyHistogram() {
+        counts = new AtomicLongArray((MAX_MAGNITUDE + 1) * SUB_BUCKET_HALF + SUB_BUCKET_HALF);
+    }
+
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        int index = indexFor(value);
+
+        counts.lazySet(index, counts.get(index) + 1);
+        totalCount++;
+        totalNanos += value;
+        if (value > maxNanos) {
+            maxNanos = value;
+        }
+    }
+
+    private int indexFor(long value) {
+        int magnitude = Math.max(0, 64 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS);
+        if (magnitude > MAX_MAGNITUDE) {
+            return counts.length() - 1;
+        }
+        return magnitude * SUB_BUCKET_HALF + (int) (value >>> magnitude);
+    }
+
+    private long highestValueAt(int index) {
+        int magnitude = Math.max(0, index / SUB_BUCKET_HALF - 1);
+        long subBucket = index - (long) magnitude * SUB_BUCKET_HALF;
+        return ((subBucket + 1) << magnitude) - 1;
+    }
+
+    public long getValueAtPercentile(double percentile) {
+        long count = totalCount;
+        if (count == 0)
+            return 0;
+
+        long target = Math.max(1, (long) Math.ceil(count * Math.min(100.0, percentile) / 100.0));
+        long seen = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            seen += counts.get(i);
+            if (seen >= target) {
+                return Math.min(highestValueAt(i), maxNanos);
+            }
+        }
+        return maxNanos;
+    }
+
+    public void reset() {
+        for (int i = 0; i < counts.length(); i++) {
+            counts.set(i, 0);
+        }
+        totalCount = 0;
+        totalNanos = 0;
+        maxNanos = 0;
+    }
+
+    public long getCount() {
+        return totalCount;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    public double getMeanNanos() {
+        long count = totalCount;
+        return count == 0 ? 0 : (double) totalNanos / count;
+    }
+}
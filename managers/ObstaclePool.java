@@ -0,0 +1,109 @@
+package managers;
+
+import models.ObstacleField;
+
+public class ObstaclePool {
+
+    private final ObstacleField field;
+    private long hits;
+    private long misses;
+    private long recycled;
+    private long released;
+
+    public ObstaclePool(ObstacleField field) {
+        if (field == null) {
+            throw new IllegalArgumentException("ObstacleField must not be null");
+        }
+        this.field = field;
+    }
+
+    public void prewarm(int capacity) {
+        field.reserve(capacity);
+    }
+
+    public int spawn(double x, double y, double speed, int carType) {
+        int capacity = field.capacity();
+        int obstacle = field.add(x, y, speed, carType);
+        recordAcquire(capacity);
+        return obstacle;
+    }
+
+    public int spawnForLevel(double x, double y, int carType) {
+        int capacity = field.capacity();
+        int obstacle = field.addForLevel(x, y, carType);
+        recordAcquire(capacity);
+        return obstacle;
+    }
+
+    public void respawn(int obstacle, double x, double y, double speed) {
+        field.reset(obstacle, x, y, speed);
+        recycled++;
+    }
+
+    public void reset(int obstacle, double x, double y) {
+        field.reset(obstacle, x, y);
+        recycled++;
+    }
+
+    public void release(int obstacle) {
+        field.remove(obstacle);
+        released++;
+    }
+
+    public void releaseInactive() {
+        int before = field.size();
+        field.removeInactive();
+        released += before - field.size();
+    }
+
+    public void releaseAll() {
+        released += field.size();
+        field.clear();
+    }
+
+    private void recordAcquire(int capacityBefore) {
+        if (field.capacity() > capacityBefore) {
+            misses++;
+        } else {
+            hits++;
+        }
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getRecycled() {
+        return recycled + field.getRespawnCount();
+    }
+
+    public long getReleased() {
+        return released;
+    }
+
+    public int getFreeSlots() {
+        return field.capacity() - field.size();
+    }
+
+    public double getHitRate() {
+        long total = hits + misses;
+        return total == 0 ? 1.0 : (double) hits / total;
+    }
+
+    public void resetCounters() {
+        hits = 0;
+        misses = 0;
+        recycled = 0;
+        released = 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ObstaclePool[hits=%d, misses=%d, recycled=%d, free=%d]",
+                hits, misses, getRecycled(), getFreeSlots());
+    }
+}
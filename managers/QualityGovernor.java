@@ -0,0 +1,164 @@
+package managers;
+
+import enums.LogEvent;
+import enums.QualityTier;
+
+public class QualityGovernor {
+
+    private static final double SMOOTHING = 0.1;
+    private static final double RESTORE_RATIO = 0.6;
+    private static final int DEGRADE_FRAMES = 30;
+    private static final int RESTORE_FRAMES = 180;
+    private static final double REGRESSION_RATIO = 1.1;
+
+    private final long budgetNanos;
+
+    private volatile QualityTier tier = QualityTier.FULL;
+    private volatile boolean enabled = true;
+    private double smoothedNanos;
+    private int overBudgetFrames;
+    private int headroomFrames;
+
+    private long frames;
+    private long degrades;
+    private long restores;
+    private long lastTransitionFrame = -1;
+    private final long[] framesInTier = new long[QualityTier.values().length];
+    private final boolean[] skipped = new boolean[QualityTier.values().length];
+    private boolean probing;
+    private double costBeforeDegrade;
+
+    public QualityGovernor() {
+        this(FrameMetrics.FRAME_BUDGET_NANOS);
+    }
+
+    public QualityGovernor(long budgetNanos) {
+        this.budgetNanos = Math.max(1, budgetNanos);
+    }
+
+    public void recordFrame(long workNanos) {
+        frames++;
+        framesInTier[tier.ordinal()]++;
+
+        smoothedNanos = smoothedNanos == 0 ? workNanos
+                : smoothedNanos + (workNanos - smoothedNanos) * SMOOTHING;
+
+        if (!enabled)
+            return;
+
+        if (probing && frames - lastTransitionFrame >= DEGRADE_FRAMES) {
+            probing = false;
+            if (smoothedNanos > costBeforeDegrade * REGRESSION_RATIO) {
+                skipped[tier.ordinal()] = true;
+                GameLogger.log(LogEvent.QUALITY_TIER_SKIPPED, tier.label, getSmoothedMillis(),
+                        costBeforeDegrade / 1e6);
+                transition(next(tier, false));
+                restores++;
+                return;
+            }
+        }
+
+        if (smoothedNanos > budgetNanos) {
+            headroomFrames = 0;
+            QualityTier lower = next(tier, true);
+            if (++overBudgetFrames >= DEGRADE_FRAMES && lower != tier) {
+                costBeforeDegrade = smoothedNanos;
+                transition(lower);
+                probing = true;
+                degrades++;
+                GameLogger.log(LogEvent.QUALITY_DEGRADED, tier.label, getSmoothedMillis(), getBudgetMillis());
+            }
+        } else if (smoothedNanos < budgetNanos * RESTORE_RATIO) {
+            overBudgetFrames = 0;
+            QualityTier higher = next(tier, false);
+            if (++headroomFrames >= RESTORE_FRAMES && higher != tier) {
+                transition(higher);
+                restores++;
+                GameLogger.log(LogEvent.QUALITY_RESTORED, tier.label, getSmoothedMillis(), getBudgetMillis());
+            }
+        } else {
+            overBudgetFrames = 0;
+            headroomFrames = 0;
+        }
+    }
+
+    private QualityTier next(QualityTier from, boolean lower) {
+        QualityTier candidate = from;
+        while (true) {
+            QualityTier step = lower ? candidate.lower() : candidate.higher();
+            if (step == candidate)
+                return from;
+            if (!skipped[step.ordinal()])
+                return step;
+            candidate = step;
+        }
+    }
+
+    private void transition(QualityTier next) {
+        probing = false;
+        tier = next;
+        overBudgetFrames = 0;
+        headroomFrames = 0;
+        lastTransitionFrame = frames;
+    }
+
+    public void setTier(QualityTier tier) {
+        if (tier != null && tier != this.tier) {
+            transition(tier);
+        }
+    }
+
+    public QualityTier getTier() {
+        return tier;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public double getSmoothedMillis() {
+        return smoothedNanos / 1e6;
+    }
+
+    public double getBudgetMillis() {
+        return budgetNanos / 1e6;
+    }
+
+    public long getFrameCount() {
+        return frames;
+    }
+
+    public long getDegradeCount() {
+        return degrades;
+    }
+
+    public long getRestoreCount() {
+        return restores;
+    }
+
+    public long getTransitionCount() {
+        return degrades + restores;
+    }
+
+    public long getFramesSinceTransition() {
+        return lastTransitionFrame < 0 ? frames : frames - lastTransitionFrame;
+    }
+
+    public boolean isSkipped(QualityTier tier) {
+        return skipped[tier.ordinal()];
+    }
+
+    public long getFramesInTier(QualityTier tier) {
+        return framesInTier[tier.ordinal()];
+    }
+
+    @Override
+    public String toString() {
+        return String.format("QualityGovernor[tier=%s, render=%.2f/%.2f ms, degrades=%d, restores=%d]",
+                tier, getSmoothedMillis(), getBudgetMillis(), degrades, restores);
+    }
+}
@@ -0,0 +1,559 @@
+package managers;
+
+import enums.*;
+import interfaces.GameConstants;
+import models.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.awt.image.VolatileImage;
+import java.util.List;
+
+public class RenderManager {
+
+    private static final String[] MAIN_MENU_OPTIONS = { "MULAI PERMAINAN", "KELUAR" };
+    private static final String[] PAUSE_MENU_OPTIONS = { "LANJUTKAN", "MENU UTAMA", "KELUAR" };
+
+    private Graphics2D backGraphics;
+    private WorldSnapshot frame;
+    private double interpolation = 1.0;
+    private RoadLayer roadLayer;
+    private BufferedImage renderTarget;
+    private VolatileImage lowResolution;
+    private BufferedImage particleTarget;
+    private final HudLayer hudLayer = new HudLayer();
+    private final QualityGovernor governor = new QualityGovernor();
+    private QualityTier tier = QualityTier.FULL;
+    private BufferedImage idleBackdrop;
+    private GameState backdropState;
+    private volatile long presentedIdleKey = -1;
+    private long backdropBuilds = 0;
+
+    private final FrameMetrics metrics;
+    private long lastFrameTime = 0;
+
+    public RenderManager() {
+        this(new FrameMetrics());
+    }
+
+    public RenderManager(FrameMetrics metrics) {
+        this.metrics = metrics != null ? metrics : new FrameMetrics();
+    }
+
+    public void render(Graphics2D g, WorldSnapshot frame, double interpolation) {
+        this.frame = frame;
+        this.interpolation = interpolation;
+        this.tier = governor.getTier();
+
+        if (isIdle(frame.getGameState())) {
+            lastFrameTime = 0;
+            renderIdle(g);
+            return;
+        }
+        backdropState = null;
+        presentedIdleKey = -1;
+
+        long currentTime = System.nanoTime();
+        if (lastFrameTime > 0) {
+            metrics.record(FramePhase.FRAME, currentTime - lastFrameTime);
+        }
+        lastFrameTime = currentTime;
+
+        if (tier.renderScale < 1.0) {
+            renderScaled(g, tier.renderScale);
+        } else {
+            backGraphics = g;
+            particleTarget = renderTarget;
+            drawFrame();
+        }
+
+        governor.recordFrame(System.nanoTime() - currentTime);
+    }
+
+    public boolean needsRender(WorldSnapshot frame) {
+        return !isIdle(frame.getGameState()) || getIdleKey(frame) != presentedIdleKey;
+    }
+
+    public void invalidateIdleFrame() {
+        presentedIdleKey = -1;
+    }
+
+    public static boolean isIdle(GameState state) {
+        return state == GameState.MAIN_MENU || state == GameState.DIFFICULTY_SELECT ||
+                state == GameState.PAUSED || state == GameState.GAME_OVER;
+    }
+
+    private static long getIdleKey(WorldSnapshot frame) {
+        return ((long) frame.getGameState().ordinal() << 32) | (frame.getMenuSelection() & 0xFFFFFFFFL);
+    }
+
+    private void renderIdle(Graphics2D g) {
+        GameState state = frame.getGameState();
+        long key = getIdleKey(frame);
+
+        if (idleBackdrop == null || backdropState != state) {
+            buildBackdrop(g, state);
+        }
+
+        g.drawImage(idleBackdrop, 0, 0, null);
+        backGraphics = g;
+        drawIdleOptions(state);
+        presentedIdleKey = key;
+    }
+
+    private void buildBackdrop(Graphics2D target, GameState state) {
+        if (idleBackdrop == null) {
+            idleBackdrop = AssetManager.createCompatibleImage(GameConstants.SCREEN_WIDTH,
+                    GameConstants.SCREEN_HEIGHT, Transparency.OPAQUE);
+        }
+
+        Graphics2D graphics = idleBackdrop.createGraphics();
+        try {
+            graphics.setRenderingHints(target.getRenderingHints());
+            backGraphics = graphics;
+            particleTarget = idleBackdrop;
+            backGraphics.setColor(GameConstants.GRASS_COLOR);
+            backGraphics.fillRect(0, 0, GameConstants.SCREEN_WIDTH, GameConstants.SCREEN_HEIGHT);
+            drawIdleBackdrop(state);
+        } finally {
+            graphics.dispose();
+        }
+
+        backdropState = state;
+        backdropBuilds++;
+    }
+
+    private void renderScaled(Graphics2D g, double scale) {
+        int width = (int) Math.ceil(GameConstants.SCREEN_WIDTH * scale);
+        int height = (int) Math.ceil(GameConstants.SCREEN_HEIGHT * scale);
+        GraphicsConfiguration config = g.getDeviceConfiguration();
+        if (lowResolution == null || lowResolution.getWidth() != width || lowResolution.getHeight() != height ||
+                lowResolution.validate(config) == VolatileImage.IMAGE_INCOMPATIBLE) {
+            lowResolution = config.createCompatibleVolatileImage(width, height);
+        }
+
+        Graphics2D low = lowResolution.createGraphics();
+        try {
+            low.setRenderingHints(g.getRenderingHints());
+            low.scale(scale, scale);
+            backGraphics = low;
+            particleTarget = null;
+            drawFrame();
+        } finally {
+            low.dispose();
+        }
+
+        g.drawImage(lowResolution, 0, 0, GameConstants.SCREEN_WIDTH, GameConstants.SCREEN_HEIGHT, null);
+        backGraphics = g;
+    }
+
+    private void drawFrame() {
+        backGraphics.setColor(GameConstants.GRASS_COLOR);
+        backGraphics.fillRect(0, 0, GameConstants.SCREEN_WIDTH, GameConstants.SCREEN_HEIGHT);
+
+        GameState state = frame.getGameState();
+        switch (state) {
+            case COUNTDOWN -> drawCountdown();
+            case PLAYING -> drawGameplay();
+            case LEVEL_TRANSITION -> drawLevelTransition();
+            default -> {
+                drawIdleBackdrop(state);
+                drawIdleOptions(state);
+            }
+        }
+    }
+
+    private void drawIdleBackdrop(GameState state) {
+        switch (state) {
+            case MAIN_MENU -> drawMainMenu();
+            case DIFFICULTY_SELECT -> drawDifficultyMenu();
+            case GAME_OVER -> drawGameOver();
+            case PAUSED -> drawPauseMenu();
+            default -> {
+            }
+        }
+    }
+
+    private void drawIdleOptions(GameState state) {
+        switch (state) {
+            case MAIN_MENU -> drawMenuOptions(MAIN_MENU_OPTIONS, 400, 80);
+            case DIFFICULTY_SELECT -> drawDifficultyOptions();
+            case PAUSED -> drawMenuOptions(PAUSE_MENU_OPTIONS, 400, 60);
+            default -> {
+            }
+        }
+    }
+
+    private void drawGameplay() {
+        long phaseStart = metrics.start();
+        drawGameBackground();
+
+        if (GameConstants.DEBUG_MODE) {
+            drawRoadDebugInfo();
+        }
+        metrics.stop(FramePhase.BACKGROUND, phaseStart);
+
+        phaseStart = metrics.start();
+        drawGameObjects();
+        metrics.stop(FramePhase.OBJECTS, phaseStart);
+
+        phaseStart = metrics.start();
+        drawGameUI();
+
+        if (GameConstants.DEBUG_MODE) {
+            drawDebugInfo();
+        }
+        metrics.stop(FramePhase.HUD, phaseStart);
+    }
+
+    private void drawGameBackground() {
+        getRoadLayer().draw(backGraphics, frame.getRoadOffset(interpolation));
+    }
+
+    private RoadLayer getRoadLayer() {
+        if (roadLayer == null || !roadLayer.matches(GameConstants.LEFT_BOUNDARY, GameConstants.RIGHT_BOUNDARY,
+                GameConstants.CENTER_DIVIDER_LEFT, GameConstants.CENTER_DIVIDER_RIGHT,
+                GameConstants.LANE_COUNT, GameConstants.LANE_WIDTH, GameConstants.SCREEN_HEIGHT)) {
+            roadLayer = new RoadLayer();
+        }
+        return roadLayer;
+    }
+
+    private void drawRoadDebugInfo() {
+        if (!GameConstants.DEBUG_MODE)
+            return;
+
+        double roadOffset = frame.getRoadOffset(interpolation);
+
+        backGraphics.setColor(Color.CYAN);
+        backGraphics.setFont(FontCache.get("Monospace", Font.PLAIN, 12));
+        backGraphics.drawString(String.format("Road Offset: %.2f", roadOffset), 10, 300);
+        backGraphics.drawString(String.format("Pattern Mod: %.2f", roadOffset % 60.0), 10, 315);
+        backGraphics.drawString(
+                String.format("Animation Speed: %.2f", 4.0 * (1.0 + (frame.getCurrentLevel() - 1) * 0.1)), 10,
+                330);
+
+        backGraphics.setColor(Color.RED);
+        double patternBoundary = 60.0 - (roadOffset % 60.0);
+        if (patternBoundary < GameConstants.SCREEN_HEIGHT) {
+            backGraphics.drawLine(0, (int) patternBoundary, GameConstants.SCREEN_WIDTH, (int) patternBoundary);
+        }
+    }
+
+    private void drawGameObjects() {
+
+        List<TreeObject> trees = frame.getTrees();
+        if (trees != null) {
+            for (int i = 0; i < trees.size(); i += tier.sceneryStride) {
+                TreeObject tree = trees.get(i);
+                if (tree != null && tree.isActive() && isTreeVisible(tree)) {
+                    tree.draw(backGraphics);
+                }
+            }
+        }
+
+        ObstacleField obstacles = frame.getObstacles();
+        if (obstacles != null) {
+            obstacles.draw(backGraphics, interpolation);
+        }
+
+        Player player1 = frame.getPlayer1();
+        Player player2 = frame.getPlayer2();
+
+        if (player1 != null && player1.isActive())
+            player1.draw(backGraphics, interpolation);
+        if (player2 != null && player2.isActive())
+            player2.draw(backGraphics, interpolation);
+
+        ParticleSystem particles = frame.getParticles();
+        if (particles != null) {
+            particles.draw(backGraphics, particleTarget, tier.glow, tier.particleRate);
+        }
+    }
+
+    private boolean isTreeVisible(TreeObject tree) {
+        if (tree == null)
+            return false;
+
+        double x = tree.getX();
+        double y = tree.getY();
+        double width = tree.getWidth();
+        double height = tree.getHeight();
+
+        return (x + width > -50 && x < GameConstants.SCREEN_WIDTH + 50 &&
+                y + height > -50 && y < GameConstants.SCREEN_HEIGHT + 50);
+    }
+
+    private void drawGameUI() {
+        hudLayer.draw(backGraphics, frame, tier.hudInterval);
+    }
+
+    private void drawCenteredText(String text, int y) {
+        FontMetrics fm = backGraphics.getFontMetrics();
+        int x = (GameConstants.SCREEN_WIDTH - fm.stringWidth(text)) / 2;
+        backGraphics.drawString(text, x, y);
+    }
+
+    private void drawDebugInfo() {
+        backGraphics.setColor(new Color(0, 0, 0, 150));
+        backGraphics.fillRoundRect(10, 150, 250, 200, 10, 10);
+
+        backGraphics.setColor(Color.GREEN);
+        backGraphics.setFont(FontCache.get("Monospace", Font.PLAIN, 12));
+
+        String[] debugInfo = {
+                "DEBUG MODE",
+                String.format("Frame p50/p99: %.2f/%.2f ms",
+                        metrics.getPercentileMillis(FramePhase.FRAME, 50.0),
+                        metrics.getPercentileMillis(FramePhase.FRAME, 99.0)),
+                String.format("Tick p99/max: %.2f/%.2f ms",
+                        metrics.getPercentileMillis(FramePhase.TICK, 99.0),
+                        metrics.getMaxMillis(FramePhase.TICK)),
+                "Objects: " + getTotalObjectCount(),
+                "Input Keys: " + frame.getActiveKeyCount(),
+                String.format("Road Offset: %.1f", frame.getRoadOffset()),
+                "Ticks: " + frame.getTotalTicks() + " (dropped " + frame.getDroppedTicks() + ")",
+                "Game State: " + frame.getGameState(),
+                "Obstacles: " + frame.getObstacles().size() +
+                        " (pool miss " + frame.getPoolMisses() + ")",
+                "Particles: " + frame.getParticles().size(),
+                String.format("Quality: %s (%.1f ms)", tier.label, governor.getSmoothedMillis())
+        };
+
+        for (int i = 0; i < debugInfo.length; i++) {
+            backGraphics.drawString(debugInfo[i], 15, 170 + i * 15);
+        }
+    }
+
+    private int getTotalObjectCount() {
+        int count = 2;
+
+        if (frame.getObstacles() != null) {
+            count += frame.getObstacles().size();
+        }
+        if (frame.getParticles() != null) {
+            count += frame.getParticles().size();
+        }
+        if (frame.getTrees() != null) {
+            count += frame.getTrees().size();
+        }
+
+        return count;
+    }
+
+    private void drawMainMenu() {
+        backGraphics.setFont(FontCache.get("Arial", Font.BOLD, 60));
+
+        backGraphics.setColor(new Color(0, 0, 0, 100));
+        drawCenteredText("🏁 CAR RACE SURVIVAL 🏁", 203);
+
+        backGraphics.setColor(Color.WHITE);
+        drawCenteredText("🏁 CAR RACE SURVIVAL 🏁", 200);
+
+        backGraphics.setFont(FontCache.get("Arial", Font.PLAIN, 18));
+        backGraphics.setColor(Color.LIGHT_GRAY);
+        drawCenteredText("Navigasi: ↑↓ | Pilih: ENTER", 650);
+    }
+
+    private void drawDifficultyMenu() {
+
+        backGraphics.setColor(new Color(30, 30, 30, 200));
+        backGraphics.fillRoundRect(150, 100, 1000, 700, 30, 30);
+
+        backGraphics.setFont(FontCache.get("Arial", Font.BOLD, 45));
+        backGraphics.setColor(Color.WHITE);
+        drawCenteredText("PILIH TINGKAT KESULITAN", 180);
+
+        backGraphics.setFont(FontCache.get("Arial", Font.PLAIN, 16));
+        backGraphics.setColor(Color.CYAN);
+        drawCenteredText("ESC untuk kembali | ENTER untuk pilih", 750);
+    }
+
+    private void drawDifficultyOptions() {
+        DifficultyLevel[] levels = DifficultyLevel.values();
+        int menuSelection = frame.getMenuSelection();
+
+        backGraphics.setFont(FontCache.get("Arial", Font.BOLD, 32));
+        for (int i = 0; i < levels.length; i++) {
+            int optionY = 280 + i * 120;
+            boolean isSelected = (menuSelection == i);
+
+            if (isSelected) {
+                backGraphics.setColor(new Color(0, 255, 100, 180));
+                backGraphics.fillRoundRect(200, optionY - 50, 900, 90, 20, 20);
+                backGraphics.setColor(Color.BLACK);
+            } else {
+                backGraphics.setColor(Color.WHITE);
+            }
+
+            drawCenteredText(levels[i].description, optionY);
+
+            if (isSelected) {
+                backGraphics.setFont(FontCache.get("Arial", Font.PLAIN, 18));
+                backGraphics.setColor(Color.WHITE);
+                String details = String.format("Base Obstacles: %d | Speed: %d-%d",
+                        levels[i].baseObstacleCount,
+                        levels[i].baseMinSpeed,
+                        levels[i].baseMaxSpeed);
+                drawCenteredText(details, optionY + 30);
+                backGraphics.setFont(FontCache.get("Arial", Font.BOLD, 32));
+            }
+        }
+    }
+
+    private void drawMenuOptions(String[] options, int startY, int spacing) {
+        int menuSelection = frame.getMenuSelection();
+
+        backGraphics.setFont(FontCache.get("Arial", Font.BOLD, 36));
+        for (int i = 0; i < options.length; i++) {
+            int optionY = startY + i * spacing;
+
+            if (menuSelection == i) {
+                backGraphics.setColor(new Color(0, 255, 100, 180));
+                FontMetrics fm = backGraphics.getFontMetrics();
+                int textWidth = fm.stringWidth(options[i]);
+                int rectX = (GameConstants.SCREEN_WIDTH - textWidth) / 2 - 20;
+                backGraphics.fillRoundRect(rectX, optionY - 40, textWidth + 40, 60, 20, 20);
+                backGraphics.setColor(Color.BLACK);
+            } else {
+                backGraphics.setColor(Color.WHITE);
+            }
+
+            drawCenteredText(options[i], optionY);
+        }
+    }
+
+    private void drawCountdown() {
+        drawGameplay();
+
+        backGraphics.setColor(new Color(0, 0, 0, 150));
+        backGraphics.fillRect(0, 0, GameConstants.SCREEN_WIDTH, GameConstants.SCREEN_HEIGHT);
+
+        backGraphics.setFont(FontCache.get("Arial", Font.BOLD, 120));
+        backGraphics.setColor(Color.YELLOW);
+        String countdown = (frame.getCountdownTimer() > 0) ? String.valueOf(frame.getCountdownTimer()) : "MULAI!";
+        drawCenteredText(countdown, 450);
+
+        backGraphics.setFont(FontCache.get("Arial", Font.PLAIN, 20));
+        backGraphics.setColor(Color.WHITE);
+        drawCenteredText("SPACE untuk Skip | ESC untuk Menu", 550);
+    }
+
+    private void drawLevelTransition() {
+        drawGameplay();
+
+        backGraphics.setColor(new Color(0, 0, 0, 180));
+        backGraphics.fillRect(0, 0, GameConstants.SCREEN_WIDTH, GameConstants.SCREEN_HEIGHT);
+
+        backGraphics.setFont(FontCache.get("Arial", Font.BOLD, 50));
+        backGraphics.setColor(new Color(255, 215, 0));
+        drawCenteredText("LEVEL " + (frame.getCurrentLevel() - 1) + " SELESAI!", 300);
+
+        backGraphics.setFont(FontCache.get("Arial", Font.BOLD, 35));
+        backGraphics.setColor(Color.WHITE);
+        drawCenteredText("BERSIAP UNTUK LEVEL " + frame.getCurrentLevel(), 380);
+
+        backGraphics.setFont(FontCache.get("Arial", Font.BOLD, 80));
+        backGraphics.setColor(Color.YELLOW);
+        drawCenteredText(String.valueOf(frame.getTransitionCountdown()), 500);
+
+        backGraphics.setFont(FontCache.get("Arial", Font.PLAIN, 18));
+        backGraphics.setColor(Color.CYAN);
+        drawCenteredText("SPACE untuk Skip | ESC untuk Menu", 580);
+    }
+
+    private void drawGameOver() {
+        drawGameplay();
+
+        backGraphics.setColor(new Color(0, 0, 0, 200));
+        backGraphics.fillRect(0, 0, GameConstants.SCREEN_WIDTH, GameConstants.SCREEN_HEIGHT);
+
+        backGraphics.setFont(FontCache.get("Arial", Font.BOLD, 60));
+        backGraphics.setColor(Color.RED);
+        drawCenteredText("GAME OVER", 200);
+
+        String winner = getWinner();
+        backGraphics.setFont(FontCache.get("Arial", Font.BOLD, 40));
+        backGraphics.setColor(new Color(255, 215, 0));
+        drawCenteredText(winner, 280);
+
+        drawGameStats();
+
+        backGraphics.setFont(FontCache.get("Arial", Font.BOLD, 20));
+        backGraphics.setColor(Color.CYAN);
+        drawCenteredText("R untuk Restart | ESC untuk Menu", 650);
+    }
+
+    private void drawGameStats() {
+        backGraphics.setFont(FontCache.get("Arial", Font.PLAIN, 24));
+        backGraphics.setColor(Color.WHITE);
+
+        String[] stats = {
+                "STATISTIK PERMAINAN:",
+                "",
+                "Level Tertinggi: " + frame.getCurrentLevel(),
+                "Total Survival: " + frame.getTotalSurvivalTime() + " detik",
+                "Kesulitan: " + frame.getDifficulty().description,
+                "",
+                frame.getPlayer1().getName() + " - Level: " + frame.getPlayer1().getLevelsCompleted(),
+                frame.getPlayer2().getName() + " - Level: " + frame.getPlayer2().getLevelsCompleted()
+        };
+
+        int startY = 350;
+        for (int i = 0; i < stats.length; i++) {
+            if (!stats[i].isEmpty()) {
+                if (i == 0) {
+                    backGraphics.setColor(Color.YELLOW);
+                    backGraphics.setFont(FontCache.get("Arial", Font.BOLD, 24));
+                } else {
+                    backGraphics.setColor(Color.WHITE);
+                    backGraphics.setFont(FontCache.get("Arial", Font.PLAIN, 20));
+                }
+                drawCenteredText(stats[i], startY + i * 25);
+            }
+        }
+    }
+
+    private void drawPauseMenu() {
+        drawGameplay();
+
+        backGraphics.setColor(new Color(0, 0, 0, 150));
+        backGraphics.fillRect(0, 0, GameConstants.SCREEN_WIDTH, GameConstants.SCREEN_HEIGHT);
+
+        backGraphics.setFont(FontCache.get("Arial", Font.BOLD, 60));
+        backGraphics.setColor(Color.YELLOW);
+        drawCenteredText("PAUSE", 300);
+
+        backGraphics.setFont(FontCache.get("Arial", Font.PLAIN, 16));
+        backGraphics.setColor(Color.LIGHT_GRAY);
+        drawCenteredText("ESC untuk lanjutkan langsung", 580);
+    }
+
+    private String getWinner() {
+        Player p1 = frame.getPlayer1();
+        Player p2 = frame.getPlayer2();
+
+        if (p1.isAlive() && !p2.isAlive()) {
+            return "🏆 " + p1.getName() + " MENANG! 🏆";
+        } else if (!p1.isAlive() && p2.isAlive()) {
+            return "🏆 " + p2.getName() + " MENANG! 🏆";
+        } else {
+            return "🤝 SERI - Kedua Pemain Gugur Bersamaan 🤝";
+        }
+    }
+
+    public void setRenderTarget(BufferedImage renderTarget) {
+        this.renderTarget = renderTarget;
+    }
+
+    public long getBackdropBuildCount() {
+        return backdropBuilds;
+    }
+
+    public QualityGovernor getQualityGovernor() {
+        return governor;
+    }
+
+    public FrameMetrics getMetrics() {
+        return metrics;
+    }
+}
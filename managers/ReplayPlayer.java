@@ -0,0 +1,227 @@
+package managers;
+
+import enums.DifficultyLevel;
+import enums.GameCommand;
+import enums.LogEvent;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class ReplayPlayer {
+
+    private final byte[] data;
+    private final long seed;
+    private final DifficultyLevel difficulty;
+    private final int startLevel;
+    private final int tickCount;
+
+    private final int bodyStart;
+    private int position;
+    private int ticksPlayed;
+    private int repeatCount;
+    private int pendingChanges;
+
+    private int movement;
+    private int[] commands = new int[4];
+    private int commandCount;
+
+    public ReplayPlayer(byte[] data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Replay data must not be null");
+        }
+        this.data = data;
+
+        if (readInt() != ReplayRecorder.MAGIC) {
+            throw new IllegalArgumentException("Not a replay file");
+        }
+        int version = readVarint();
+        if (version != ReplayRecorder.VERSION) {
+            throw new IllegalArgumentException("Unsupported replay version: " + version);
+        }
+
+        this.seed = readLong();
+        this.difficulty = DifficultyLevel.values()[readIndex(DifficultyLevel.values().length, "difficulty")];
+        this.startLevel = readVarint();
+        if (startLevel < 1) {
+            throw new IllegalArgumentException("Invalid start level: " + startLevel);
+        }
+        this.tickCount = readVarint();
+        this.bodyStart = position;
+
+        validate();
+        rewind();
+    }
+
+    private void validate() {
+        long ticks = 0;
+        while (true) {
+            ticks += readVarint();
+            int changed = readVarint();
+            if (changed == 0)
+                break;
+            if ((changed & ~(ReplayRecorder.FIELD_MOVEMENT | ReplayRecorder.FIELD_COMMANDS)) != 0) {
+                throw new IllegalArgumentException("Unknown replay fields " + changed + " at offset " + position);
+            }
+            applyChanges(changed);
+            ticks++;
+        }
+
+        if (ticks != tickCount) {
+            throw new IllegalArgumentException("Replay holds " + ticks + " ticks, header says " + tickCount);
+        }
+    }
+
+    public static ReplayPlayer load(Path file) {
+        try {
+            ReplayPlayer replay = new ReplayPlayer(Files.readAllBytes(file));
+            GameLogger.log(LogEvent.REPLAY_LOADED, file.toString(), replay.getTickCount());
+            return replay;
+        } catch (IOException | RuntimeException e) {
+            GameLogger.log(LogEvent.REPLAY_LOAD_FAILED, e.getMessage());
+            return null;
+        }
+    }
+
+    public void rewind() {
+        position = bodyStart;
+        ticksPlayed = 0;
+        movement = 0;
+        commandCount = 0;
+        readEntry();
+    }
+
+    public GameManager createGameManager(FrameMetrics metrics) {
+        GameManager gameManager = new GameManager(metrics, seed);
+        prepare(gameManager);
+        return gameManager;
+    }
+
+    public void prepare(GameManager gameManager) {
+        rewind();
+        gameManager.reseed(seed);
+        gameManager.setDifficulty(difficulty);
+        gameManager.startNewGame();
+        while (gameManager.getCurrentLevel() < startLevel) {
+            gameManager.nextLevel();
+        }
+        gameManager.getInputManager().setMovementMask(0);
+    }
+
+    public boolean hasNext() {
+        return ticksPlayed < tickCount;
+    }
+
+    public boolean apply(GameManager gameManager) {
+        if (!hasNext())
+            return false;
+
+        commandCount = 0;
+        if (repeatCount > 0) {
+            repeatCount--;
+        } else if (pendingChanges != 0) {
+            applyChanges(pendingChanges);
+            readEntry();
+        }
+
+        ticksPlayed++;
+        for (int i = 0; i < commandCount; i++) {
+            gameManager.execute(GameCommand.values()[commands[i]]);
+        }
+        gameManager.getInputManager().setMovementMask(movement);
+
+        if (!hasNext()) {
+            GameLogger.log(LogEvent.REPLAY_FINISHED, ticksPlayed);
+        }
+        return true;
+    }
+
+    private void applyChanges(int changed) {
+        if ((changed & ReplayRecorder.FIELD_MOVEMENT) != 0)
+            movement = readVarint();
+        commandCount = 0;
+        if ((changed & ReplayRecorder.FIELD_COMMANDS) != 0) {
+            int count = readVarint();
+            if (count <= 0 || count > data.length) {
+                throw new IllegalArgumentException("Invalid command count " + count + " at offset " + position);
+            }
+            if (count > commands.length) {
+                commands = new int[count];
+            }
+            for (int i = 0; i < count; i++) {
+                commands[i] = readIndex(GameCommand.values().length, "command");
+            }
+            commandCount = count;
+        }
+    }
+
+    private void readEntry() {
+        repeatCount = readVarint();
+        pendingChanges = readVarint();
+    }
+
+    private int readInt() {
+        int value = 0;
+        for (int i = 0; i < 4; i++) {
+            value = (value << 8) | (readByte() & 0xFF);
+        }
+        return value;
+    }
+
+    private long readLong() {
+        long high = readInt() & 0xFFFFFFFFL;
+        long low = readInt() & 0xFFFFFFFFL;
+        return (high << 32) | low;
+    }
+
+    private int readIndex(int limit, String name) {
+        int value = readVarint();
+        if (value < 0 || value >= limit) {
+            throw new IllegalArgumentException("Invalid " + name + " " + value + " at offset " + position);
+        }
+        return value;
+    }
+
+    private int readVarint() {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = readByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0)
+                return value;
+        }
+        throw new IllegalArgumentException("Malformed varint at offset " + position);
+    }
+
+    private int readByte() {
+        if (position >= data.length) {
+            throw new IllegalArgumentException("Replay truncated at offset " + position);
+        }
+        return data[position++];
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public DifficultyLevel getDifficulty() {
+        return difficulty;
+    }
+
+    public int getStartLevel() {
+        return startLevel;
+    }
+
+    public int getTickCount() {
+        return tickCount;
+    }
+
+    public int getTicksPlayed() {
+        return ticksPlayed;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ReplayPlayer[seed=%d, difficulty=%s, ticks=%d/%d, bytes=%d]",
+                seed, difficulty, ticksPlayed, tickCount, data.length);
+    }
+}
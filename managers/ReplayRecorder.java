@@ -0,0 +1,166 @@
+package managers;
+
+import enums.DifficultyLevel;
+import enums.LogEvent;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+public class ReplayRecorder {
+
+    static final int MAGIC = 0x43525250;
+    static final int VERSION = 2;
+
+    static final int FIELD_MOVEMENT = 1;
+    static final int FIELD_COMMANDS = 1 << 1;
+
+    private final long seed;
+    private final DifficultyLevel difficulty;
+    private final int startLevel;
+
+    private final Encoder body = new Encoder(1024);
+    private int tickCount;
+    private int repeatCount;
+
+    private int movement;
+
+    public ReplayRecorder(GameManager gameManager) {
+        this.seed = gameManager.getSeed();
+        this.difficulty = gameManager.getDifficulty();
+        this.startLevel = gameManager.getCurrentLevel();
+        this.movement = 0;
+    }
+
+    public void record(GameManager gameManager) {
+        int nextMovement = gameManager.getInputManager().getAppliedMovement();
+        int commandCount = gameManager.getAppliedCommandCount();
+
+        int changed = 0;
+        if (nextMovement != movement)
+            changed |= FIELD_MOVEMENT;
+        if (commandCount > 0)
+            changed |= FIELD_COMMANDS;
+
+        tickCount++;
+        if (changed == 0) {
+            repeatCount++;
+            return;
+        }
+
+        body.writeVarint(repeatCount);
+        body.writeVarint(changed);
+        if ((changed & FIELD_MOVEMENT) != 0)
+            body.writeVarint(nextMovement);
+        if ((changed & FIELD_COMMANDS) != 0) {
+            body.writeVarint(commandCount);
+            for (int i = 0; i < commandCount; i++) {
+                body.writeVarint(gameManager.getAppliedCommand(i).ordinal());
+            }
+        }
+
+        repeatCount = 0;
+        movement = nextMovement;
+    }
+
+    public byte[] toByteArray() {
+        Encoder out = new Encoder(body.length() + 64);
+        out.writeInt(MAGIC);
+        out.writeVarint(VERSION);
+        out.writeLong(seed);
+        out.writeVarint(difficulty.ordinal());
+        out.writeVarint(startLevel);
+        out.writeVarint(tickCount);
+
+        out.append(body);
+        out.writeVarint(repeatCount);
+        out.writeVarint(0);
+        return out.toByteArray();
+    }
+
+    public boolean save(Path file) {
+        try {
+            byte[] data = toByteArray();
+            Files.write(file, data);
+            GameLogger.log(LogEvent.REPLAY_SAVED, file.toString(), tickCount, data.length);
+            return true;
+        } catch (IOException | RuntimeException e) {
+            GameLogger.log(LogEvent.REPLAY_SAVE_FAILED, e.getMessage());
+            return false;
+        }
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public DifficultyLevel getDifficulty() {
+        return difficulty;
+    }
+
+    public int getTickCount() {
+        return tickCount;
+    }
+
+    public int getEncodedSize() {
+        return body.length();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ReplayRecorder[seed=%d, difficulty=%s, ticks=%d, bytes=%d]",
+                seed, difficulty, tickCount, body.length());
+    }
+
+    private static final class Encoder {
+
+        private byte[] bytes;
+        private int length;
+
+        Encoder(int capacity) {
+            bytes = new byte[capacity];
+        }
+
+        void writeInt(int value) {
+            for (int shift = 24; shift >= 0; shift -= 8) {
+                writeByte(value >>> shift);
+            }
+        }
+
+        void writeLong(long value) {
+            writeInt((int) (value >>> 32));
+            writeInt((int) value);
+        }
+
+        void writeVarint(int value) {
+            while ((value & ~0x7F) != 0) {
+                writeByte((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            writeByte(value);
+        }
+
+        void writeByte(int value) {
+            if (length == bytes.length) {
+                bytes = Arrays.copyOf(bytes, bytes.length * 2);
+            }
+            bytes[length++] = (byte) value;
+        }
+
+        void append(Encoder other) {
+            if (length + other.length > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + other.length));
+            }
+            System.arraycopy(other.bytes, 0, bytes, length, other.length);
+            length += other.length;
+        }
+
+        int length() {
+            return length;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(bytes, length);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package managers;
+
+import interfaces.GameConstants;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+public class RoadLayer {
+
+    public static final int DASH_HEIGHT = 20;
+    public static final int DASH_GAP = 20;
+    public static final int DASH_CYCLE = DASH_HEIGHT + DASH_GAP;
+
+    private static final int STRIP_WIDTH = 8;
+    private static final int EDGE_WIDTH = 3;
+    private static final Color LANE_MARK_COLOR = new Color(255, 255, 255, 200);
+
+    private final int leftBoundary;
+    private final int rightBoundary;
+    private final int dividerLeft;
+    private final int dividerRight;
+    private final int laneCount;
+    private final int laneWidth;
+    private final int viewHeight;
+
+    private final int originX;
+    private final int tileWidth;
+    private final int tileHeight;
+    private final BufferedImage tile;
+
+    public RoadLayer() {
+        this(GameConstants.LEFT_BOUNDARY, GameConstants.RIGHT_BOUNDARY,
+                GameConstants.CENTER_DIVIDER_LEFT, GameConstants.CENTER_DIVIDER_RIGHT,
+                GameConstants.LANE_COUNT, GameConstants.LANE_WIDTH, GameConstants.SCREEN_HEIGHT);
+    }
+
+    public RoadLayer(int leftBoundary, int rightBoundary, int dividerLeft, int dividerRight,
+            int laneCount, int laneWidth, int viewHeight) {
+        this.leftBoundary = leftBoundary;
+        this.rightBoundary = rightBoundary;
+        this.dividerLeft = dividerLeft;
+        this.dividerRight = dividerRight;
+        this.laneCount = laneCount;
+        this.laneWidth = laneWidth;
+        this.viewHeight = viewHeight;
+
+        this.originX = leftBoundary - STRIP_WIDTH;
+        this.tileWidth = (rightBoundary + STRIP_WIDTH) - originX;
+        this.tileHeight = ((viewHeight + DASH_CYCLE - 1) / DASH_CYCLE) * DASH_CYCLE;
+        this.tile = AssetManager.createCompatibleImage(tileWidth, tileHeight, Transparency.OPAQUE);
+
+        Graphics2D g = tile.createGraphics();
+        try {
+            g.translate(-originX, 0);
+            paint(g);
+        } finally {
+            g.dispose();
+        }
+    }
+
+    public boolean matches(int leftBoundary, int rightBoundary, int dividerLeft, int dividerRight,
+            int laneCount, int laneWidth, int viewHeight) {
+        return this.leftBoundary == leftBoundary && this.rightBoundary == rightBoundary &&
+                this.dividerLeft == dividerLeft && this.dividerRight == dividerRight &&
+                this.laneCount == laneCount && this.laneWidth == laneWidth &&
+                this.viewHeight == viewHeight;
+    }
+
+    public void draw(Graphics2D g, double roadOffset) {
+        int start = Math.floorMod((int) Math.floor(roadOffset), tileHeight);
+        int firstHeight = Math.min(tileHeight - start, viewHeight);
+
+        g.drawImage(tile, originX, 0, originX + tileWidth, firstHeight,
+                0, start, tileWidth, start + firstHeight, null);
+
+        if (firstHeight < viewHeight) {
+            int secondHeight = viewHeight - firstHeight;
+            g.drawImage(tile, originX, firstHeight, originX + tileWidth, viewHeight,
+                    0, 0, tileWidth, secondHeight, null);
+        }
+    }
+
+    private void paint(Graphics2D g) {
+        g.setColor(GameConstants.ROAD_COLOR);
+        g.fillRect(leftBoundary, 0, rightBoundary - leftBoundary, tileHeight);
+
+        int dashCount = tileHeight / DASH_CYCLE;
+
+        g.setColor(LANE_MARK_COLOR);
+        for (int lane = 1; lane < laneCount; lane++) {
+            int laneX = leftBoundary + (lane * laneWidth);
+
+            if (laneX == dividerLeft || laneX == dividerRight)
+                continue;
+
+            for (int dash = 0; dash < dashCount; dash++) {
+                g.fillRect(laneX - 2, dash * DASH_CYCLE, 4, DASH_HEIGHT);
+            }
+        }
+
+        g.setColor(GameConstants.DIVIDER_COLOR);
+        for (int dash = 0; dash < dashCount; dash++) {
+            g.fillRect(dividerLeft + 6, dash * DASH_CYCLE, 18, DASH_HEIGHT + 3);
+        }
+
+        g.setColor(GameConstants.BOUNDARY_COLOR);
+        g.fillRect(leftBoundary - STRIP_WIDTH, 0, STRIP_WIDTH, tileHeight);
+        g.fillRect(rightBoundary, 0, STRIP_WIDTH, tileHeight);
+        g.fillRect(dividerLeft - STRIP_WIDTH, 0, STRIP_WIDTH, tileHeight);
+        g.fillRect(dividerRight, 0, STRIP_WIDTH, tileHeight);
+
+        g.setColor(Color.WHITE);
+        g.fillRect(leftBoundary, 0, EDGE_WIDTH, tileHeight);
+        g.fillRect(rightBoundary - EDGE_WIDTH, 0, EDGE_WIDTH, tileHeight);
+    }
+
+    public int getTileHeight() {
+        return tileHeight;
+    }
+
+    public BufferedImage getTile() {
+        return tile;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("RoadLayer[%dx%d, lanes=%d]", tileWidth, tileHeight, laneCount);
+    }
+}
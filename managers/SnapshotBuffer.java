@@ -0,0 +1,42 @@
+package managers;
+
+import models.WorldSnapshot;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class SnapshotBuffer {
+
+    private static final int INDEX_MASK = 0x3;
+    private static final int FRESH = 0x4;
+
+    private final WorldSnapshot[] buffers = {
+            new WorldSnapshot(), new WorldSnapshot(), new WorldSnapshot()
+    };
+    private final AtomicInteger middle = new AtomicInteger(1);
+    private int back = 0;
+    private int front = 2;
+    private long published;
+
+    public WorldSnapshot getBackBuffer() {
+        return buffers[back];
+    }
+
+    public void publish() {
+        buffers[back].setSequence(++published);
+        back = middle.getAndSet(back | FRESH) & INDEX_MASK;
+    }
+
+    public WorldSnapshot acquire() {
+        if ((middle.get() & FRESH) != 0) {
+            front = middle.getAndSet(front) & INDEX_MASK;
+        }
+        return buffers[front];
+    }
+
+    public long getPublishedCount() {
+        return published;
+    }
+
+    public boolean hasFreshSnapshot() {
+        return (middle.get() & FRESH) != 0;
+    }
+}
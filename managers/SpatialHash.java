@@ -0,0 +1,172 @@
+package managers;
+
+import interfaces.GameConstants;
+import java.util.Arrays;
+
+public class SpatialHash {
+
+    private static final int MIN_TABLE_SIZE = 64;
+    private static final int INITIAL_ENTRY_CAPACITY = 64;
+
+    private final double cellWidth;
+    private final double cellHeight;
+
+    private int[] bucketHeads;
+    private int[] bucketStamps;
+    private int tableMask;
+    private int generation;
+
+    private int[] entryIds;
+    private int[] entryNext;
+    private int entryCount;
+
+    private int[] seenStamps;
+    private int queryStamp;
+
+    public SpatialHash() {
+        this(GameConstants.CAR_WIDTH, GameConstants.CAR_HEIGHT);
+    }
+
+    public SpatialHash(double cellWidth, double cellHeight) {
+        this.cellWidth = Math.max(1.0, cellWidth);
+        this.cellHeight = Math.max(1.0, cellHeight);
+
+        this.entryIds = new int[INITIAL_ENTRY_CAPACITY];
+        this.entryNext = new int[INITIAL_ENTRY_CAPACITY];
+        this.seenStamps = new int[INITIAL_ENTRY_CAPACITY];
+        allocateTable(MIN_TABLE_SIZE);
+    }
+
+    public void clear(int expectedIds) {
+        if (expectedIds > seenStamps.length) {
+            seenStamps = new int[Math.max(expectedIds, seenStamps.length * 2)];
+            queryStamp = 0;
+        }
+
+        int wantedTable = Integer.highestOneBit(Math.max(MIN_TABLE_SIZE, expectedIds * 4) - 1) << 1;
+        if (wantedTable > bucketHeads.length) {
+            allocateTable(wantedTable);
+        }
+
+        generation++;
+        if (generation == 0) {
+            Arrays.fill(bucketStamps, 0);
+            generation = 1;
+        }
+        entryCount = 0;
+    }
+
+    public void insert(int id, double x, double y, double width, double height) {
+        if (id >= seenStamps.length) {
+            int[] grown = new int[Math.max(id + 1, seenStamps.length * 2)];
+            System.arraycopy(seenStamps, 0, grown, 0, seenStamps.length);
+            seenStamps = grown;
+        }
+
+        int minCellX = cellX(x);
+        int maxCellX = cellX(x + width);
+        int minCellY = cellY(y);
+        int maxCellY = cellY(y + height);
+
+        for (int cy = minCellY; cy <= maxCellY; cy++) {
+            for (int cx = minCellX; cx <= maxCellX; cx++) {
+                addEntry(bucketIndex(cx, cy), id);
+            }
+        }
+    }
+
+    public int query(double x, double y, double width, double height, int[] result) {
+        nextQueryStamp();
+
+        int minCellX = cellX(x);
+        int maxCellX = cellX(x + width);
+        int minCellY = cellY(y);
+        int maxCellY = cellY(y + height);
+        int count = 0;
+
+        for (int cy = minCellY; cy <= maxCellY; cy++) {
+            for (int cx = minCellX; cx <= maxCellX; cx++) {
+                int bucket = bucketIndex(cx, cy);
+                if (bucketStamps[bucket] != generation)
+                    continue;
+
+                for (int entry = bucketHeads[bucket]; entry >= 0; entry = entryNext[entry]) {
+                    int id = entryIds[entry];
+                    if (seenStamps[id] == queryStamp)
+                        continue;
+
+                    seenStamps[id] = queryStamp;
+                    if (count < result.length) {
+                        result[count] = id;
+                    }
+                    count++;
+                }
+            }
+        }
+
+        return Math.min(count, result.length);
+    }
+
+    private void addEntry(int bucket, int id) {
+        if (entryCount == entryIds.length) {
+            int newCapacity = entryIds.length * 2;
+            int[] grownIds = new int[newCapacity];
+            int[] grownNext = new int[newCapacity];
+            System.arraycopy(entryIds, 0, grownIds, 0, entryCount);
+            System.arraycopy(entryNext, 0, grownNext, 0, entryCount);
+            entryIds = grownIds;
+            entryNext = grownNext;
+        }
+
+        if (bucketStamps[bucket] != generation) {
+            bucketStamps[bucket] = generation;
+            bucketHeads[bucket] = -1;
+        }
+
+        entryIds[entryCount] = id;
+        entryNext[entryCount] = bucketHeads[bucket];
+        bucketHeads[bucket] = entryCount;
+        entryCount++;
+    }
+
+    private void nextQueryStamp() {
+        queryStamp++;
+        if (queryStamp == 0) {
+            Arrays.fill(seenStamps, 0);
+            queryStamp = 1;
+        }
+    }
+
+    private void allocateTable(int size) {
+        bucketHeads = new int[size];
+        bucketStamps = new int[size];
+        tableMask = size - 1;
+        generation = 1;
+    }
+
+    private int cellX(double x) {
+        return (int) Math.floor(x / cellWidth);
+    }
+
+    private int cellY(double y) {
+        return (int) Math.floor(y / cellHeight);
+    }
+
+    private int bucketIndex(int cellX, int cellY) {
+        int hash = cellX * 0x9E3779B1 ^ cellY * 0x85EBCA77;
+        hash ^= hash >>> 15;
+        return hash & tableMask;
+    }
+
+    public int getEntryCount() {
+        return entryCount;
+    }
+
+    public double getCellWidth() {
+        return cellWidth;
+    }
+
+    public double getCellHeight() {
+        return cellHeight;
+    }
+}
@@ -0,0 +1,247 @@
+package managers;
+
+import interfaces.GameConstants;
+import models.ObstacleField;
+import java.util.Arrays;
+import java.util.Random;
+
+public class SpawnPlanner {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final int laneCount;
+    private final double[][] occupiedY;
+    private final double[][] occupiedX;
+    private final int[] occupiedCount;
+
+    private double[] blockedStart = new double[INITIAL_CAPACITY];
+    private double[] blockedEnd = new double[INITIAL_CAPACITY];
+    private final double[] freeSpace;
+
+    private int plannedLane = -1;
+    private double plannedX;
+    private double plannedY;
+    private long planned;
+    private long rejected;
+
+    public SpawnPlanner() {
+        this(GameConstants.LANE_COUNT);
+    }
+
+    public SpawnPlanner(int laneCount) {
+        this.laneCount = Math.max(1, laneCount);
+        occupiedY = new double[this.laneCount][INITIAL_CAPACITY];
+        occupiedX = new double[this.laneCount][INITIAL_CAPACITY];
+        occupiedCount = new int[this.laneCount];
+        freeSpace = new double[this.laneCount];
+    }
+
+    public void rebuild(ObstacleField obstacles, LaneIndex lanes, double zoneBottom) {
+        for (int lane = 0; lane < laneCount; lane++) {
+            occupiedCount[lane] = 0;
+            if (lane >= lanes.getLaneCount())
+                continue;
+
+            for (int k = lanes.getLaneSize(lane) - 1; k >= 0; k--) {
+                int id = lanes.get(lane, k);
+                double y = obstacles.getY(id);
+                if (y >= zoneBottom)
+                    break;
+                reserve(lane, obstacles.getX(id), y);
+            }
+        }
+    }
+
+    public void reserve(int lane, double x, double y) {
+        int count = occupiedCount[lane];
+        if (count == occupiedY[lane].length) {
+            occupiedY[lane] = Arrays.copyOf(occupiedY[lane], count * 2);
+            occupiedX[lane] = Arrays.copyOf(occupiedX[lane], count * 2);
+        }
+
+        double[] ys = occupiedY[lane];
+        double[] xs = occupiedX[lane];
+        int j = count - 1;
+        while (j >= 0 && ys[j] > y) {
+            ys[j + 1] = ys[j];
+            xs[j + 1] = xs[j];
+            j--;
+        }
+        ys[j + 1] = y;
+        xs[j + 1] = x;
+        occupiedCount[lane] = count + 1;
+    }
+
+    public boolean plan(Random random, double top, double bottom, double minDistance, double width) {
+        plannedLane = -1;
+
+        int openLanes = 0;
+        for (int lane = 0; lane < laneCount; lane++) {
+            freeSpace[lane] = measureFreeSpace(lane, laneX(lane, width), top, bottom, minDistance);
+            if (freeSpace[lane] > 0) {
+                openLanes++;
+            }
+        }
+
+        if (openLanes == 0) {
+            rejected++;
+            return false;
+        }
+
+        int pick = random.nextInt(openLanes);
+        int lane = 0;
+        while (freeSpace[lane] <= 0 || pick-- > 0) {
+            lane++;
+        }
+
+        double x = laneX(lane, width);
+        double offset = random.nextDouble() * freeSpace[lane];
+        double y = locateFreeOffset(lane, x, top, bottom, minDistance, offset);
+
+        plannedLane = lane;
+        plannedX = x;
+        plannedY = y;
+        planned++;
+        reserve(lane, x, y);
+        return true;
+    }
+
+    private double measureFreeSpace(int lane, double x, double top, double bottom, double minDistance) {
+        int blocked = collectBlocked(lane, x, top, bottom, minDistance);
+
+        double free = 0;
+        double cursor = top;
+        for (int b = 0; b < blocked && cursor < bottom; b++) {
+            if (blockedStart[b] > cursor) {
+                free += Math.min(blockedStart[b], bottom) - cursor;
+            }
+            cursor = Math.max(cursor, blockedEnd[b]);
+        }
+        if (cursor < bottom) {
+            free += bottom - cursor;
+        }
+        return free;
+    }
+
+    private double locateFreeOffset(int lane, double x, double top, double bottom, double minDistance,
+            double offset) {
+        int blocked = collectBlocked(lane, x, top, bottom, minDistance);
+
+        double cursor = top;
+        for (int b = 0; b <= blocked && cursor < bottom; b++) {
+            double gapEnd = b < blocked ? Math.min(blockedStart[b], bottom) : bottom;
+            if (gapEnd > cursor) {
+                double gap = gapEnd - cursor;
+                if (offset < gap) {
+                    return cursor + offset;
+                }
+                offset -= gap;
+            }
+            if (b < blocked) {
+                cursor = Math.max(cursor, blockedEnd[b]);
+            }
+        }
+        return Math.max(top, Math.min(bottom, cursor));
+    }
+
+    private int collectBlocked(int lane, double x, double top, double bottom, double minDistance) {
+        int blocked = 0;
+        double minDistanceSquared = minDistance * minDistance;
+
+        for (int neighbour = Math.max(0, lane - 1); neighbour <= Math.min(laneCount - 1, lane + 1); neighbour++) {
+            double[] ys = occupiedY[neighbour];
+            double[] xs = occupiedX[neighbour];
+            int count = occupiedCount[neighbour];
+
+            for (int k = firstAtOrBelow(ys, count, top - minDistance); k < count; k++) {
+                if (ys[k] >= bottom + minDistance)
+                    break;
+
+                double dx = x - xs[k];
+                double reachSquared = minDistanceSquared - dx * dx;
+                if (reachSquared <= 0)
+                    continue;
+
+                double reach = Math.sqrt(reachSquared);
+                double start = ys[k] - reach;
+                double end = ys[k] + reach;
+                if (end <= top || start >= bottom)
+                    continue;
+
+                blocked = insertBlocked(blocked, start, end);
+            }
+        }
+
+        return blocked;
+    }
+
+    private static int firstAtOrBelow(double[] ys, int count, double y) {
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (ys[mid] < y) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int insertBlocked(int blocked, double start, double end) {
+        if (blocked == blockedStart.length) {
+            blockedStart = Arrays.copyOf(blockedStart, blocked * 2);
+            blockedEnd = Arrays.copyOf(blockedEnd, blocked * 2);
+        }
+
+        int j = blocked - 1;
+        while (j >= 0 && blockedStart[j] > start) {
+            blockedStart[j + 1] = blockedStart[j];
+            blockedEnd[j + 1] = blockedEnd[j];
+            j--;
+        }
+        blockedStart[j + 1] = start;
+        blockedEnd[j + 1] = end;
+        return blocked + 1;
+    }
+
+    public static double laneX(int lane, double width) {
+        return GameConstants.LEFT_BOUNDARY + (lane * GameConstants.LANE_WIDTH) +
+                (GameConstants.LANE_WIDTH - width) / 2;
+    }
+
+    public int getPlannedLane() {
+        return plannedLane;
+    }
+
+    public double getPlannedX() {
+        return plannedX;
+    }
+
+    public double getPlannedY() {
+        return plannedY;
+    }
+
+    public double getPlannedFreeSpace() {
+        return plannedLane >= 0 ? freeSpace[plannedLane] : 0;
+    }
+
+    public int getOccupiedCount(int lane) {
+        return occupiedCount[lane];
+    }
+
+    public long getPlannedCount() {
+        return planned;
+    }
+
+    public long getRejectedCount() {
+        return rejected;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SpawnPlanner[occupied=%s, planned=%d, rejected=%d]",
+                Arrays.toString(occupiedCount), planned, rejected);
+    }
+}
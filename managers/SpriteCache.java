@@ -0,0 +1,64 @@
+package managers;
+
+import java.awt.image.BufferedImage;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public final class SpriteCache {
+
+    public static final int MAX_SPRITES = 64;
+
+    private static long hits = 0;
+    private static long misses = 0;
+    private static long evictions = 0;
+
+    private static final Map<Long, BufferedImage> sprites = new LinkedHashMap<>(MAX_SPRITES, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, BufferedImage> eldest) {
+            if (size() > MAX_SPRITES) {
+                evictions++;
+                return true;
+            }
+            return false;
+        }
+    };
+
+    private SpriteCache() {
+    }
+
+    public static synchronized BufferedImage get(long key) {
+        BufferedImage sprite = sprites.get(key);
+        if (sprite != null) {
+            hits++;
+        } else {
+            misses++;
+        }
+        return sprite;
+    }
+
+    public static synchronized void put(long key, BufferedImage sprite) {
+        if (sprite != null) {
+            sprites.put(key, sprite);
+        }
+    }
+
+    public static synchronized void clear() {
+        sprites.clear();
+    }
+
+    public static synchronized int size() {
+        return sprites.size();
+    }
+
+    public static synchronized long getHits() {
+        return hits;
+    }
+
+    public static synchronized long getMisses() {
+        return misses;
+    }
+
+    public static synchronized long getEvictions() {
+        return evictions;
+    }
+}
@@ -0,0 +1,222 @@
+package managers;
+
+import interfaces.TimerListener;
+import java.util.Arrays;
+
+public class TickScheduler {
+
+    public static final long NO_TIMER = -1;
+
+    private static final int WHEEL_BITS = 6;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    private static final int LEVELS = 4;
+    private static final long MAX_DELAY = (1L << (WHEEL_BITS * LEVELS)) - 1;
+    private static final int NONE = -1;
+
+    private final int[] heads = new int[LEVELS * WHEEL_SIZE];
+
+    private long[] deadlines;
+    private TimerListener[] listeners;
+    private int[] payloads;
+    private int[] generations;
+    private int[] buckets;
+    private int[] next;
+    private int[] previous;
+    private int freeHead = NONE;
+    private int allocated;
+
+    private long tick;
+    private int pending;
+    private long fired;
+    private long cascaded;
+
+    public TickScheduler() {
+        this(64);
+    }
+
+    public TickScheduler(int initialCapacity) {
+        int capacity = Math.max(1, initialCapacity);
+        deadlines = new long[capacity];
+        listeners = new TimerListener[capacity];
+        payloads = new int[capacity];
+        generations = new int[capacity];
+        buckets = new int[capacity];
+        next = new int[capacity];
+        previous = new int[capacity];
+        Arrays.fill(heads, NONE);
+    }
+
+    public long schedule(long delay, TimerListener listener, int payload) {
+        if (listener == null) {
+            throw new IllegalArgumentException("TimerListener must not be null");
+        }
+
+        int entry = allocate();
+        deadlines[entry] = tick + Math.max(1, Math.min(delay, MAX_DELAY));
+        listeners[entry] = listener;
+        payloads[entry] = payload;
+        place(entry);
+        pending++;
+        return ((long) generations[entry] << 32) | entry;
+    }
+
+    public boolean cancel(long handle) {
+        if (handle < 0)
+            return false;
+
+        int entry = (int) handle;
+        if (entry >= allocated || generations[entry] != (int) (handle >>> 32) || listeners[entry] == null)
+            return false;
+
+        unlink(entry);
+        release(entry);
+        pending--;
+        return true;
+    }
+
+    public long remaining(long handle) {
+        if (handle < 0)
+            return 0;
+
+        int entry = (int) handle;
+        if (entry >= allocated || generations[entry] != (int) (handle >>> 32) || listeners[entry] == null)
+            return 0;
+        return deadlines[entry] - tick;
+    }
+
+    public void advance() {
+        tick++;
+
+        if ((tick & WHEEL_MASK) == 0) {
+            for (int level = 1; level < LEVELS; level++) {
+                int slot = (int) (tick >>> (WHEEL_BITS * level)) & WHEEL_MASK;
+                cascade(level * WHEEL_SIZE + slot);
+                if (slot != 0)
+                    break;
+            }
+        }
+
+        int bucket = (int) tick & WHEEL_MASK;
+        int entry;
+        while ((entry = heads[bucket]) != NONE) {
+            TimerListener listener = listeners[entry];
+            int payload = payloads[entry];
+
+            unlink(entry);
+            release(entry);
+            pending--;
+            fired++;
+            listener.onTimer(payload);
+        }
+    }
+
+    private void cascade(int bucket) {
+        int entry = heads[bucket];
+        heads[bucket] = NONE;
+
+        while (entry != NONE) {
+            int following = next[entry];
+            place(entry);
+            cascaded++;
+            entry = following;
+        }
+    }
+
+    private void place(int entry) {
+        long deadline = deadlines[entry];
+        long delta = deadline - tick;
+
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= 1L << (WHEEL_BITS * (level + 1))) {
+            level++;
+        }
+
+        int bucket = level * WHEEL_SIZE + ((int) (deadline >>> (WHEEL_BITS * level)) & WHEEL_MASK);
+        int head = heads[bucket];
+
+        buckets[entry] = bucket;
+        previous[entry] = NONE;
+        next[entry] = head;
+        if (head != NONE) {
+            previous[head] = entry;
+        }
+        heads[bucket] = entry;
+    }
+
+    private void unlink(int entry) {
+        int before = previous[entry];
+        int after = next[entry];
+
+        if (before != NONE) {
+            next[before] = after;
+        } else {
+            heads[buckets[entry]] = after;
+        }
+        if (after != NONE) {
+            previous[after] = before;
+        }
+    }
+
+    private int allocate() {
+        if (freeHead != NONE) {
+            int entry = freeHead;
+            freeHead = next[entry];
+            return entry;
+        }
+
+        if (allocated == deadlines.length) {
+            int capacity = deadlines.length * 2;
+            deadlines = Arrays.copyOf(deadlines, capacity);
+            listeners = Arrays.copyOf(listeners, capacity);
+            payloads = Arrays.copyOf(payloads, capacity);
+            generations = Arrays.copyOf(generations, capacity);
+            buckets = Arrays.copyOf(buckets, capacity);
+            next = Arrays.copyOf(next, capacity);
+            previous = Arrays.copyOf(previous, capacity);
+        }
+        return allocated++;
+    }
+
+    private void release(int entry) {
+        listeners[entry] = null;
+        generations[entry]++;
+        next[entry] = freeHead;
+        freeHead = entry;
+    }
+
+    public void clear() {
+        for (int bucket = 0; bucket < heads.length; bucket++) {
+            int entry = heads[bucket];
+            heads[bucket] = NONE;
+            while (entry != NONE) {
+                int following = next[entry];
+                release(entry);
+                entry = following;
+            }
+        }
+        pending = 0;
+    }
+
+    public long getTick() {
+        return tick;
+    }
+
+    public int getPendingCount() {
+        return pending;
+    }
+
+    public long getFiredCount() {
+        return fired;
+    }
+
+    public long getCascadeCount() {
+        return cascaded;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("TickScheduler[tick=%d, pending=%d, fired=%d, cascaded=%d]",
+                tick, pending, fired, cascaded);
+    }
+}
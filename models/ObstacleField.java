@@ -0,0 +1,455 @@
+package models;
+
+import enums.DifficultyLevel;
+import enums.LogEvent;
+import interfaces.Drawable;
+import interfaces.GameConstants;
+import managers.AssetManager;
+import managers.GameLogger;
+import managers.GameRandom;
+import managers.SpawnPlanner;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.Random;
+
+public class ObstacleField implements Drawable {
+
+    public static final String[] CAR_TYPES = { "gamecar1", "gamecar2", "gamecar3", "gamecar4" };
+
+    private static final Color[] FALLBACK_COLORS = { Color.RED, Color.BLUE, Color.GREEN, Color.ORANGE,
+            Color.MAGENTA, Color.CYAN, Color.PINK, Color.YELLOW.darker() };
+    private static final int DEFAULT_COLOR = 3;
+    private static final int INITIAL_CAPACITY = 32;
+    private static final double RESPAWN_WINDOW = 400;
+
+    private double[] x;
+    private double[] y;
+    private double[] prevX;
+    private double[] prevY;
+    private double[] speed;
+    private double[] lastRespawnY;
+    private byte[] lane;
+    private byte[] type;
+    private byte[] color;
+    private boolean[] active;
+    private int count;
+    private long respawnCount;
+
+    private final Random random;
+    private SpawnPlanner spawnPlanner;
+    private DifficultyLevel difficulty;
+    private int currentLevel;
+
+    public ObstacleField(Random random) {
+        this(random, INITIAL_CAPACITY);
+    }
+
+    public ObstacleField(Random random, int initialCapacity) {
+        this.random = random != null ? random : GameRandom.unseeded();
+        this.difficulty = DifficultyLevel.EASY;
+        this.currentLevel = 1;
+        allocate(Math.max(1, initialCapacity));
+    }
+
+    private void allocate(int capacity) {
+        x = new double[capacity];
+        y = new double[capacity];
+        prevX = new double[capacity];
+        prevY = new double[capacity];
+        speed = new double[capacity];
+        lastRespawnY = new double[capacity];
+        lane = new byte[capacity];
+        type = new byte[capacity];
+        color = new byte[capacity];
+        active = new boolean[capacity];
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= x.length)
+            return;
+
+        int newCapacity = Math.max(capacity, x.length * 2);
+        x = Arrays.copyOf(x, newCapacity);
+        y = Arrays.copyOf(y, newCapacity);
+        prevX = Arrays.copyOf(prevX, newCapacity);
+        prevY = Arrays.copyOf(prevY, newCapacity);
+        speed = Arrays.copyOf(speed, newCapacity);
+        lastRespawnY = Arrays.copyOf(lastRespawnY, newCapacity);
+        lane = Arrays.copyOf(lane, newCapacity);
+        type = Arrays.copyOf(type, newCapacity);
+        color = Arrays.copyOf(color, newCapacity);
+        active = Arrays.copyOf(active, newCapacity);
+    }
+
+    public void copyFrom(ObstacleField source) {
+        ensureCapacity(source.count);
+
+        int n = source.count;
+        System.arraycopy(source.x, 0, x, 0, n);
+        System.arraycopy(source.y, 0, y, 0, n);
+        System.arraycopy(source.prevX, 0, prevX, 0, n);
+        System.arraycopy(source.prevY, 0, prevY, 0, n);
+        System.arraycopy(source.speed, 0, speed, 0, n);
+        System.arraycopy(source.lastRespawnY, 0, lastRespawnY, 0, n);
+        System.arraycopy(source.lane, 0, lane, 0, n);
+        System.arraycopy(source.type, 0, type, 0, n);
+        System.arraycopy(source.color, 0, color, 0, n);
+        System.arraycopy(source.active, 0, active, 0, n);
+        count = n;
+        respawnCount = source.respawnCount;
+        difficulty = source.difficulty;
+        currentLevel = source.currentLevel;
+    }
+
+    public int add(double newX, double newY, double newSpeed, int carType) {
+        ensureCapacity(count + 1);
+
+        int i = count++;
+        x[i] = Math.max(0, newX);
+        y[i] = newY;
+        speed[i] = newSpeed;
+        lastRespawnY[i] = 0;
+        type[i] = (byte) Math.floorMod(carType, CAR_TYPES.length);
+        color[i] = DEFAULT_COLOR;
+        active[i] = true;
+        updateLane(i);
+        snapPreviousPosition(i);
+        return i;
+    }
+
+    public int addForLevel(double newX, double newY, int carType) {
+        int i = add(newX, newY, 0, carType);
+        updateSpeedForLevel(i);
+        return i;
+    }
+
+    public void reset(int i, double newX, double newY) {
+        setPosition(i, newX, newY);
+        active[i] = true;
+        updateSpeedForLevel(i);
+        randomizeCarType(i);
+    }
+
+    public void reset(int i, double newX, double newY, double newSpeed) {
+        setPosition(i, newX, newY);
+        active[i] = true;
+        setSpeed(i, newSpeed);
+        randomizeCarType(i);
+    }
+
+    public void reserve(int capacity) {
+        ensureCapacity(capacity);
+    }
+
+    public void clear() {
+        count = 0;
+    }
+
+    public void remove(int i) {
+        int last = --count;
+        if (i == last)
+            return;
+
+        x[i] = x[last];
+        y[i] = y[last];
+        prevX[i] = prevX[last];
+        prevY[i] = prevY[last];
+        speed[i] = speed[last];
+        lastRespawnY[i] = lastRespawnY[last];
+        lane[i] = lane[last];
+        type[i] = type[last];
+        color[i] = color[last];
+        active[i] = active[last];
+    }
+
+    public void removeInactive() {
+        for (int i = count - 1; i >= 0; i--) {
+            if (!active[i]) {
+                remove(i);
+            }
+        }
+    }
+
+    public void savePreviousPositions() {
+        System.arraycopy(x, 0, prevX, 0, count);
+        System.arraycopy(y, 0, prevY, 0, count);
+    }
+
+    public void update(int i) {
+        if (!active[i])
+            return;
+
+        updateMovement(i);
+
+        if (y[i] > GameConstants.SCREEN_HEIGHT + 100) {
+            respawnWithSafePosition(i);
+        }
+
+        maintainLaneBounds(i);
+        updateLane(i);
+
+        if (y[i] > GameConstants.SCREEN_HEIGHT + 200) {
+            active[i] = false;
+        }
+    }
+
+    private void updateMovement(int i) {
+        y[i] += speed[i];
+
+        if (random.nextDouble() < 0.002) {
+            double horizontalDrift = (random.nextDouble() - 0.5) * 1.5;
+            x[i] = Math.max(0, x[i] + horizontalDrift);
+        }
+    }
+
+    private void respawnWithSafePosition(int i) {
+        final double MIN_DISTANCE = getHeight() * 2;
+        double bottom = -getHeight() - 50;
+        double top = bottom - RESPAWN_WINDOW;
+
+        if (spawnPlanner != null) {
+            if (spawnPlanner.plan(random, top, bottom, MIN_DISTANCE, getWidth())) {
+                respawnAt(i, spawnPlanner.getPlannedX(), spawnPlanner.getPlannedY());
+                GameLogger.log(LogEvent.OBSTACLE_RESPAWNED_SAFELY, x[i], y[i], spawnPlanner.getPlannedFreeSpace());
+                return;
+            }
+        } else {
+            double below = Math.max(0, Math.min(bottom, lastRespawnY[i] - MIN_DISTANCE) - top);
+            double above = Math.max(0, bottom - Math.max(top, lastRespawnY[i] + MIN_DISTANCE));
+            if (below + above > 0) {
+                double offset = random.nextDouble() * (below + above);
+                double newY = offset < below ? top + offset : bottom - (offset - below);
+                respawnAt(i, getRandomXPosition(), newY);
+                GameLogger.log(LogEvent.OBSTACLE_RESPAWNED_SAFELY, x[i], y[i], below + above);
+                return;
+            }
+        }
+
+        respawnAt(i, getRandomXPosition(), -200 - random.nextInt(400));
+        GameLogger.log(LogEvent.OBSTACLE_FORCE_SPAWNED);
+    }
+
+    private void respawnAt(int i, double newX, double newY) {
+        reset(i, newX, newY);
+        lastRespawnY[i] = newY;
+        respawnCount++;
+    }
+
+    private double getRandomXPosition() {
+        int laneIndex = random.nextInt(GameConstants.LANE_COUNT);
+        double laneWidth = (GameConstants.RIGHT_BOUNDARY - GameConstants.LEFT_BOUNDARY) / GameConstants.LANE_COUNT;
+
+        if (laneIndex >= 3) {
+            laneIndex++;
+        }
+
+        double laneStartX = GameConstants.LEFT_BOUNDARY + (laneIndex * laneWidth);
+        double laneCenterX = laneStartX + (laneWidth / 2) - (getWidth() / 2);
+
+        double randomOffset = (random.nextDouble() - 0.5) * (laneWidth * 0.3);
+
+        return Math.max(GameConstants.LEFT_BOUNDARY + 10,
+                Math.min(laneCenterX + randomOffset,
+                        GameConstants.RIGHT_BOUNDARY - getWidth() - 10));
+    }
+
+    private void maintainLaneBounds(int i) {
+        double leftBound = GameConstants.LEFT_BOUNDARY + 5;
+        double rightBound = GameConstants.RIGHT_BOUNDARY - getWidth() - 5;
+
+        double centerLeft = GameConstants.CENTER_DIVIDER_LEFT - 5;
+        double centerRight = GameConstants.CENTER_DIVIDER_RIGHT + 5;
+
+        if (x[i] < leftBound) {
+            x[i] = leftBound;
+        } else if (x[i] > rightBound) {
+            x[i] = rightBound;
+        } else if (x[i] + getWidth() > centerLeft && x[i] < centerRight) {
+
+            if (x[i] < (centerLeft + centerRight) / 2) {
+                x[i] = centerLeft - getWidth();
+            } else {
+                x[i] = centerRight;
+            }
+        }
+    }
+
+    public void updateSpeedForLevel(int i) {
+        double minSpeed = difficulty.getMinSpeed(currentLevel);
+        double maxSpeed = difficulty.getMaxSpeed(currentLevel);
+
+        if (maxSpeed <= minSpeed) {
+            maxSpeed = minSpeed + 2.0;
+        }
+
+        setSpeed(i, minSpeed + random.nextDouble() * (maxSpeed - minSpeed));
+    }
+
+    private void randomizeCarType(int i) {
+        int oldType = type[i];
+        int newType = random.nextInt(CAR_TYPES.length);
+
+        int attempts = 0;
+        while (newType == oldType && attempts < 5) {
+            newType = random.nextInt(CAR_TYPES.length);
+            attempts++;
+        }
+
+        type[i] = (byte) newType;
+        color[i] = (byte) random.nextInt(FALLBACK_COLORS.length);
+    }
+
+    private void updateLane(int i) {
+        double centerX = x[i] + getWidth() / 2;
+        int laneIndex;
+
+        if (centerX < GameConstants.CENTER_DIVIDER_LEFT) {
+            laneIndex = (int) ((centerX - GameConstants.LEFT_BOUNDARY) / GameConstants.LANE_WIDTH);
+            laneIndex = Math.max(0, Math.min(2, laneIndex));
+        } else {
+            laneIndex = 3 + (int) ((centerX - GameConstants.CENTER_DIVIDER_RIGHT) / GameConstants.LANE_WIDTH);
+            laneIndex = Math.max(3, Math.min(GameConstants.LANE_COUNT - 1, laneIndex));
+        }
+
+        lane[i] = (byte) laneIndex;
+    }
+
+    private void snapPreviousPosition(int i) {
+        prevX[i] = x[i];
+        prevY[i] = y[i];
+    }
+
+    @Override
+    public void draw(Graphics2D g) {
+        draw(g, 1.0);
+    }
+
+    @Override
+    public void draw(Graphics2D g, double interpolation) {
+        BufferedImage[] images = AssetManager.getCarSprites();
+
+        for (int i = 0; i < count; i++) {
+            if (!active[i])
+                continue;
+
+            int drawX = (int) getRenderX(i, interpolation);
+            int drawY = (int) getRenderY(i, interpolation);
+
+            if (drawX + getWidth() <= -50 || drawX >= GameConstants.SCREEN_WIDTH + 50 ||
+                    drawY + getHeight() <= -50 || drawY >= GameConstants.SCREEN_HEIGHT + 50)
+                continue;
+
+            BufferedImage image = images[type[i]];
+            if (image != null) {
+                g.drawImage(image, drawX, drawY, null);
+            } else {
+                g.setColor(FALLBACK_COLORS[color[i]]);
+                g.fillRect(drawX, drawY, (int) getWidth(), (int) getHeight());
+            }
+        }
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public int capacity() {
+        return x.length;
+    }
+
+    public long getRespawnCount() {
+        return respawnCount;
+    }
+
+    public int getActiveCount() {
+        int activeCount = 0;
+        for (int i = 0; i < count; i++) {
+            if (active[i]) {
+                activeCount++;
+            }
+        }
+        return activeCount;
+    }
+
+    public double getX(int i) {
+        return x[i];
+    }
+
+    public double getY(int i) {
+        return y[i];
+    }
+
+    public double getRenderX(int i, double interpolation) {
+        return prevX[i] + (x[i] - prevX[i]) * interpolation;
+    }
+
+    public double getRenderY(int i, double interpolation) {
+        return prevY[i] + (y[i] - prevY[i]) * interpolation;
+    }
+
+    public double getWidth() {
+        return GameConstants.CAR_WIDTH;
+    }
+
+    public double getHeight() {
+        return GameConstants.CAR_HEIGHT;
+    }
+
+    public double getSpeed(int i) {
+        return speed[i];
+    }
+
+    public int getLane(int i) {
+        return lane[i];
+    }
+
+    public int getType(int i) {
+        return type[i];
+    }
+
+    public String getCarType(int i) {
+        return CAR_TYPES[type[i]];
+    }
+
+    public Color getFallbackColor(int i) {
+        return FALLBACK_COLORS[color[i]];
+    }
+
+    public boolean isActive(int i) {
+        return active[i];
+    }
+
+    public void setActive(int i, boolean isActive) {
+        active[i] = isActive;
+    }
+
+    public void setSpeed(int i, double newSpeed) {
+        speed[i] = Math.max(0.5, Math.min(newSpeed, 15.0));
+    }
+
+    public void setPosition(int i, double newX, double newY) {
+        x[i] = Math.max(0, newX);
+        y[i] = newY;
+        updateLane(i);
+        snapPreviousPosition(i);
+    }
+
+    public DifficultyLevel getDifficulty() {
+        return difficulty;
+    }
+
+    public int getCurrentLevel() {
+        return currentLevel;
+    }
+
+    public void setSpawnPlanner(SpawnPlanner spawnPlanner) {
+        this.spawnPlanner = spawnPlanner;
+    }
+
+    public void setLevel(DifficultyLevel difficulty, int level) {
+        this.difficulty = difficulty != null ? difficulty : DifficultyLevel.EASY;
+        this.currentLevel = Math.max(1, level);
+    }
+}
@@ -1,12 +1,15 @@
 package models;
 
 import interfaces.*;
+import managers.AlphaRamp;
 import java.awt.*;
+import java.util.Random;
 
 public class Particle implements Drawable, Updatable {
     
     private double x, y, vx, vy;
-    private Color color;
+    private int argb;
+    private AlphaRamp ramp;
     private int life, maxLife;
     private boolean active;
     
@@ -15,16 +18,16 @@ public class Particle implements Drawable, Updatable {
         this.y = y;
         this.vx = vx;
         this.vy = vy;
-        this.color = color != null ? color : Color.WHITE;
+        setColor(color != null ? color : Color.WHITE);
         this.life = Math.max(1, life);
         this.maxLife = this.life;
         this.active = true;
     }
     
-    public Particle(double x, double y, Color color) {
+    public Particle(double x, double y, Color color, Random random) {
         this(x, y, 
-             (Math.random() - 0.5) * 8,
-             (Math.random() - 0.5) * 8,
+             (random.nextDouble() - 0.5) * 8,
+             (random.nextDouble() - 0.5) * 8,
              color, 
              30);
     }
@@ -57,26 +60,13 @@ public class Particle implements Drawable, Updatable {
         
         float alpha = Math.max(0.0f, Math.min(1.0f, (float) life / maxLife));
         
-        Color fadeColor = new Color(
-            color.getRed(), 
-            color.getGreen(), 
-            color.getBlue(),
-            (int) (255 * alpha)
-        );
-        
-        g.setColor(fadeColor);
+        g.setColor(ramp.color((int) (255 * alpha)));
         
         int size = Math.max(2, (int) (6 * alpha));
         g.fillOval((int) x - size/2, (int) y - size/2, size, size);
         
         if (alpha > 0.7f) {
-            Color glowColor = new Color(
-                Math.min(255, color.getRed() + 50),
-                Math.min(255, color.getGreen() + 50), 
-                Math.min(255, color.getBlue() + 50),
-                (int) (100 * alpha)
-            );
-            g.setColor(glowColor);
+            g.setColor(ramp.getGlow().color((int) (100 * alpha)));
             g.fillOval((int) x - size, (int) y - size, size * 2, size * 2);
         }
     }
@@ -99,7 +89,7 @@ public class Particle implements Drawable, Updatable {
         this.y = newY;
         this.vx = newVx;
         this.vy = newVy;
-        this.color = newColor != null ? newColor : Color.WHITE;
+        setColor(newColor != null ? newColor : Color.WHITE);
         this.life = Math.max(1, newLife);
         this.maxLife = this.life;
         this.active = true;
@@ -109,7 +99,8 @@ public class Particle implements Drawable, Updatable {
     public double getY() { return y; }
     public double getVelocityX() { return vx; }
     public double getVelocityY() { return vy; }
-    public Color getColor() { return color; }
+    public Color getColor() { return new Color(argb, true); }
+    public int getArgb() { return argb; }
     public int getLife() { return life; }
     public int getMaxLife() { return maxLife; }
     public float getAlpha() { return (float) life / maxLife; }
@@ -120,7 +111,10 @@ public class Particle implements Drawable, Updatable {
     }
     
     public void setColor(Color color) {
-        this.color = color != null ? color : this.color;
+        if (color != null && (ramp == null || color.getRGB() != argb)) {
+            this.argb = color.getRGB();
+            this.ramp = AlphaRamp.of(color);
+        }
     }
     
     public void addLife(int additionalLife) {
@@ -154,43 +148,43 @@ public class Particle implements Drawable, Updatable {
                 x, y, vx, vy, life, maxLife, active);
     }
     
-    public static Particle createExplosionParticle(double x, double y) {
+    public static Particle createExplosionParticle(double x, double y, Random random) {
         Color[] explosionColors = {
             Color.ORANGE, Color.RED, Color.YELLOW, Color.WHITE
         };
-        Color randomColor = explosionColors[(int)(Math.random() * explosionColors.length)];
+        Color randomColor = explosionColors[random.nextInt(explosionColors.length)];
         
         return new Particle(
-            x + (Math.random() - 0.5) * 20,
-            y + (Math.random() - 0.5) * 20,
-            (Math.random() - 0.5) * 12,
-            (Math.random() - 0.5) * 12,
+            x + (random.nextDouble() - 0.5) * 20,
+            y + (random.nextDouble() - 0.5) * 20,
+            (random.nextDouble() - 0.5) * 12,
+            (random.nextDouble() - 0.5) * 12,
             randomColor,
-            30 + (int)(Math.random() * 20)
+            30 + random.nextInt(20)
         );
     }
     
-    public static Particle createTrailParticle(double x, double y, Color baseColor) {
+    public static Particle createTrailParticle(double x, double y, Color baseColor, Random random) {
         return new Particle(
             x,
             y,
-            (Math.random() - 0.5) * 2,
-            (Math.random() - 0.5) * 2,
+            (random.nextDouble() - 0.5) * 2,
+            (random.nextDouble() - 0.5) * 2,
             baseColor,
-            15 + (int)(Math.random() * 10)
+            15 + random.nextInt(10)
         );
     }
     
-    public static Particle createSmokeParticle(double x, double y) {
+    public static Particle createSmokeParticle(double x, double y, Random random) {
         Color smokeColor = new Color(128, 128, 128, 180);
         
         return new Particle(
             x,
             y,
-            (Math.random() - 0.5) * 3,
-            -Math.random() * 2 - 1,
+            (random.nextDouble() - 0.5) * 3,
+            -random.nextDouble() * 2 - 1,
             smokeColor,
-            40 + (int)(Math.random() * 20)
+            40 + random.nextInt(20)
         );
     }
 }
\ No newline at end of file
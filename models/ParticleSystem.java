@@ -0,0 +1,356 @@
+package models;
+
+import interfaces.Drawable;
+import interfaces.GameConstants;
+import interfaces.TimerListener;
+import interfaces.Updatable;
+import managers.AlphaRamp;
+import managers.DotRaster;
+import managers.GameRandom;
+import managers.TickScheduler;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.Random;
+
+public class ParticleSystem implements Drawable, Updatable {
+
+    public static final int PRIORITY_TRAIL = 0;
+    public static final int PRIORITY_SMOKE = 1;
+    public static final int PRIORITY_EXPLOSION = 2;
+
+    private static final int MAX_PALETTE_SIZE = 32;
+    private static final Color SMOKE_COLOR = new Color(128, 128, 128, 180);
+
+    private final int capacity;
+    private final double[] x;
+    private final double[] y;
+    private final double[] vx;
+    private final double[] vy;
+    private final long[] expiresAt;
+    private final long[] expiryTimer;
+    private final int[] maxLife;
+    private final byte[] colorIndex;
+    private final byte[] priority;
+
+    private final int[] freeSlots;
+    private int freeCount;
+    private final int[] activeSlots;
+    private final int[] activePosition;
+    private int activeCount;
+
+    private final Color[] palette = new Color[MAX_PALETTE_SIZE];
+    private final AlphaRamp[] ramps = new AlphaRamp[MAX_PALETTE_SIZE];
+    private int paletteSize;
+    private final int explosionColorStart;
+    private final int smokeColor;
+
+    private final Random random;
+    private final TimerListener expiry = this::expire;
+    private TickScheduler clock = new TickScheduler();
+    private boolean ownsClock = true;
+    private DotRaster raster;
+    private long emitted;
+    private long evicted;
+    private long dropped;
+
+    public ParticleSystem(Random random) {
+        this(random, GameConstants.MAX_PARTICLES);
+    }
+
+    public ParticleSystem(Random random, int capacity) {
+        this.random = random != null ? random : GameRandom.unseeded();
+        this.capacity = Math.max(1, capacity);
+
+        x = new double[this.capacity];
+        y = new double[this.capacity];
+        vx = new double[this.capacity];
+        vy = new double[this.capacity];
+        expiresAt = new long[this.capacity];
+        expiryTimer = new long[this.capacity];
+        maxLife = new int[this.capacity];
+        colorIndex = new byte[this.capacity];
+        priority = new byte[this.capacity];
+
+        freeSlots = new int[this.capacity];
+        activeSlots = new int[this.capacity];
+        activePosition = new int[this.capacity];
+        Arrays.fill(expiryTimer, TickScheduler.NO_TIMER);
+        clear();
+
+        explosionColorStart = paletteSize;
+        for (Color color : GameConstants.PARTICLE_COLORS) {
+            registerColor(color);
+        }
+        smokeColor = registerColor(SMOKE_COLOR);
+    }
+
+    public int registerColor(Color color) {
+        Color safeColor = color != null ? color : Color.WHITE;
+
+        for (int i = 0; i < paletteSize; i++) {
+            if (palette[i].equals(safeColor)) {
+                return i;
+            }
+        }
+
+        if (paletteSize == MAX_PALETTE_SIZE) {
+            return 0;
+        }
+
+        palette[paletteSize] = safeColor;
+        ramps[paletteSize] = AlphaRamp.of(safeColor);
+        return paletteSize++;
+    }
+
+    public void clear() {
+        for (int i = 0; i < activeCount; i++) {
+            clock.cancel(expiryTimer[activeSlots[i]]);
+        }
+        activeCount = 0;
+        freeCount = capacity;
+        for (int i = 0; i < capacity; i++) {
+            freeSlots[i] = capacity - 1 - i;
+        }
+    }
+
+    public void copyFrom(ParticleSystem source) {
+        if (source.capacity != capacity) {
+            throw new IllegalArgumentException("Particle capacity mismatch: " + source.capacity + " vs " + capacity);
+        }
+
+        long offset = clock.getTick() - source.clock.getTick();
+        activeCount = source.activeCount;
+        for (int i = 0; i < activeCount; i++) {
+            int slot = source.activeSlots[i];
+            activeSlots[i] = slot;
+            x[slot] = source.x[slot];
+            y[slot] = source.y[slot];
+            expiresAt[slot] = source.expiresAt[slot] + offset;
+            maxLife[slot] = source.maxLife[slot];
+            colorIndex[slot] = source.colorIndex[slot];
+        }
+
+        System.arraycopy(source.palette, 0, palette, 0, source.paletteSize);
+        System.arraycopy(source.ramps, 0, ramps, 0, source.paletteSize);
+        paletteSize = source.paletteSize;
+        emitted = source.emitted;
+        evicted = source.evicted;
+        dropped = source.dropped;
+    }
+
+    public boolean emit(double px, double py, double pvx, double pvy, int color, int particleLife, int particlePriority) {
+        int slot = acquireSlot(particlePriority);
+        if (slot < 0) {
+            dropped++;
+            return false;
+        }
+
+        x[slot] = px;
+        y[slot] = py;
+        vx[slot] = pvx;
+        vy[slot] = pvy;
+        int lifetime = Math.max(1, particleLife);
+        clock.cancel(expiryTimer[slot]);
+        expiresAt[slot] = clock.getTick() + lifetime;
+        expiryTimer[slot] = clock.schedule(lifetime, expiry, slot);
+        maxLife[slot] = lifetime;
+        colorIndex[slot] = (byte) (color >= 0 && color < paletteSize ? color : 0);
+        priority[slot] = (byte) particlePriority;
+        emitted++;
+        return true;
+    }
+
+    public void emitCrash(double px, double py) {
+        for (int i = 0; i < GameConstants.CRASH_PARTICLES; i++) {
+            double pvx = (random.nextDouble() - 0.5) * 10;
+            double pvy = (random.nextDouble() - 0.5) * 10;
+            emit(px, py, pvx, pvy, explosionColorStart + random.nextInt(4),
+                    GameConstants.PARTICLE_LIFE, PRIORITY_EXPLOSION);
+        }
+    }
+
+    public boolean emitExplosion(double px, double py) {
+        int color = explosionColorStart + random.nextInt(4);
+
+        return emit(
+                px + (random.nextDouble() - 0.5) * 20,
+                py + (random.nextDouble() - 0.5) * 20,
+                (random.nextDouble() - 0.5) * 12,
+                (random.nextDouble() - 0.5) * 12,
+                color,
+                30 + random.nextInt(20),
+                PRIORITY_EXPLOSION);
+    }
+
+    public boolean emitTrail(double px, double py, int color) {
+        return emit(
+                px,
+                py,
+                (random.nextDouble() - 0.5) * 2,
+                (random.nextDouble() - 0.5) * 2,
+                color,
+                15 + random.nextInt(10),
+                PRIORITY_TRAIL);
+    }
+
+    public boolean emitSmoke(double px, double py) {
+        return emit(
+                px,
+                py,
+                (random.nextDouble() - 0.5) * 3,
+                -random.nextDouble() * 2 - 1,
+                smokeColor,
+                40 + random.nextInt(20),
+                PRIORITY_SMOKE);
+    }
+
+    private int acquireSlot(int newPriority) {
+        if (freeCount > 0) {
+            int slot = freeSlots[--freeCount];
+            activePosition[slot] = activeCount;
+            activeSlots[activeCount++] = slot;
+            return slot;
+        }
+
+        int victim = -1;
+        for (int i = 0; i < activeCount; i++) {
+            int slot = activeSlots[i];
+            if (victim < 0 || priority[slot] < priority[victim] ||
+                    (priority[slot] == priority[victim] && expiresAt[slot] < expiresAt[victim])) {
+                victim = slot;
+            }
+        }
+
+        if (victim < 0 || priority[victim] > newPriority) {
+            return -1;
+        }
+
+        evicted++;
+        return victim;
+    }
+
+    private void expire(int slot) {
+        expiryTimer[slot] = TickScheduler.NO_TIMER;
+        release(slot);
+    }
+
+    private void release(int slot) {
+        clock.cancel(expiryTimer[slot]);
+        expiryTimer[slot] = TickScheduler.NO_TIMER;
+        int position = activePosition[slot];
+        int lastSlot = activeSlots[--activeCount];
+        activeSlots[position] = lastSlot;
+        activePosition[lastSlot] = position;
+        freeSlots[freeCount++] = slot;
+    }
+
+    @Override
+    public void update() {
+        if (ownsClock) {
+            clock.advance();
+        }
+
+        for (int i = activeCount - 1; i >= 0; i--) {
+            int slot = activeSlots[i];
+
+            x[slot] += vx[slot];
+            y[slot] += vy[slot];
+
+            vy[slot] += 0.3;
+            vx[slot] *= 0.98;
+
+            if (x[slot] < -100 || x[slot] > GameConstants.SCREEN_WIDTH + 100 ||
+                    y[slot] > GameConstants.SCREEN_HEIGHT + 100) {
+                release(slot);
+            }
+        }
+    }
+
+    @Override
+    public void draw(Graphics2D g) {
+        draw(g, null);
+    }
+
+    public void draw(Graphics2D g, BufferedImage target) {
+        draw(g, target, true);
+    }
+
+    public void draw(Graphics2D g, BufferedImage target, boolean glow) {
+        draw(g, target, glow, 1.0);
+    }
+
+    public void draw(Graphics2D g, BufferedImage target, boolean glow, double density) {
+        if (activeCount == 0)
+            return;
+
+        int threshold = (int) (Math.max(0.0, Math.min(1.0, density)) * 256);
+
+        if (raster == null) {
+            raster = new DotRaster(GameConstants.SCREEN_WIDTH, GameConstants.SCREEN_HEIGHT);
+        }
+        raster.begin(target);
+        long now = clock.getTick();
+
+        for (int i = 0; i < activeCount; i++) {
+            int slot = activeSlots[i];
+            if (threshold < 256 && ((slot * 0x9E3779B1) >>> 24) >= threshold)
+                continue;
+
+            double px = x[slot];
+            double py = y[slot];
+
+            if (px <= -50 || px >= GameConstants.SCREEN_WIDTH + 50 ||
+                    py <= -50 || py >= GameConstants.SCREEN_HEIGHT + 50)
+                continue;
+
+            AlphaRamp ramp = ramps[colorIndex[slot]];
+            float alpha = Math.max(0.0f, Math.min(1.0f, (float) (expiresAt[slot] - now) / maxLife[slot]));
+
+            int size = Math.max(2, (int) (6 * alpha));
+            raster.stamp((int) px - size / 2, (int) py - size / 2, size, ramp.premultiplied((int) (255 * alpha)));
+
+            if (glow && alpha > 0.7f) {
+                raster.stamp((int) px - size, (int) py - size, size * 2,
+                        ramp.getGlow().premultiplied((int) (100 * alpha)));
+            }
+        }
+
+        raster.end(g);
+    }
+
+    public int size() {
+        return activeCount;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getExplosionColor(int variant) {
+        return explosionColorStart + Math.floorMod(variant, 4);
+    }
+
+    public int getSmokeColor() {
+        return smokeColor;
+    }
+
+    public void setScheduler(TickScheduler scheduler) {
+        clear();
+        this.clock = scheduler != null ? scheduler : new TickScheduler();
+        this.ownsClock = scheduler == null;
+    }
+
+    public long getEmittedCount() {
+        return emitted;
+    }
+
+    public long getEvictedCount() {
+        return evicted;
+    }
+
+    public long getDroppedCount() {
+        return dropped;
+    }
+}
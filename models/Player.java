@@ -1,7 +1,14 @@
 package models;
 
+import enums.LogEvent;
 import interfaces.GameConstants;
+import interfaces.TimerListener;
+import managers.FontCache;
+import managers.GameLogger;
+import managers.GameRandom;
+import managers.TickScheduler;
 import java.awt.*;
+import java.util.Random;
 
 public class Player extends Vehicle {
 
@@ -11,12 +18,21 @@ public class Player extends Vehicle {
     private int invulnerabilityTimer;
     private int levelsCompleted;
     private Color statusColor;
+    private final Random random;
+    private final TimerListener invulnerabilityExpiry = payload -> endInvulnerability();
+    private TickScheduler scheduler;
+    private long invulnerabilityHandle = TickScheduler.NO_TIMER;
 
     private static final int PLAYER_LIVES = 3;
     private static final int INVULNERABILITY_TIME = 60;
 
     public Player(double x, double y, String imageType, String name, Color statusColor) {
+        this(x, y, imageType, name, statusColor, null);
+    }
+
+    public Player(double x, double y, String imageType, String name, Color statusColor, Random random) {
         super(x, y, imageType, statusColor);
+        this.random = random != null ? random : GameRandom.unseeded();
         this.name = name != null ? name : "Unknown Player";
         this.statusColor = statusColor;
         this.lives = PLAYER_LIVES;
@@ -24,53 +40,72 @@ public class Player extends Vehicle {
         this.invulnerabilityTimer = 0;
         this.levelsCompleted = 0;
 
-        System.out.println("✅ Player created: " + this.name + " at (" + (int) x + ", " + (int) y + ")");
+        GameLogger.log(LogEvent.PLAYER_CREATED, this.name, (int) x, (int) y);
+    }
+
+    public Player(Player source) {
+        super(source.x, source.y, source.imageType, source.statusColor);
+        this.random = GameRandom.unseeded();
+        this.name = source.name;
+        this.statusColor = source.statusColor;
+        copyFrom(source);
+    }
+
+    public void copyFrom(Player source) {
+        copyStateFrom(source);
+        lives = source.lives;
+        invulnerable = source.invulnerable;
+        invulnerabilityTimer = source.getInvulnerabilityTimer();
+        levelsCompleted = source.levelsCompleted;
+    }
+
+    @Override
+    public void update() {
+        super.update();
+
+        if (invulnerable && scheduler == null && --invulnerabilityTimer <= 0) {
+            endInvulnerability();
+        }
     }
 
     @Override
     public void updateMovement() {
 
-        if (invulnerable && invulnerabilityTimer > 0) {
+        if (invulnerable && getInvulnerabilityTimer() > 0) {
 
-            double shakeX = (Math.random() - 0.5) * 2;
-            double shakeY = (Math.random() - 0.5) * 2;
+            double shakeX = (random.nextDouble() - 0.5) * 2;
+            double shakeY = (random.nextDouble() - 0.5) * 2;
             setX(getX() + shakeX);
             setY(getY() + shakeY);
             validateBounds();
         }
     }
 
-    @Override
-    public void update() {
-        super.update();
-
-        if (invulnerabilityTimer > 0) {
-            invulnerabilityTimer--;
-            if (invulnerabilityTimer <= 0) {
-                invulnerable = false;
-                System.out.println("🛡️ " + name + " tidak lagi invulnerable");
-            }
-        }
+    private void endInvulnerability() {
+        invulnerabilityHandle = TickScheduler.NO_TIMER;
+        invulnerable = false;
+        invulnerabilityTimer = 0;
+        GameLogger.log(LogEvent.PLAYER_VULNERABLE, name);
     }
 
     @Override
-    public void draw(Graphics2D g) {
+    public void draw(Graphics2D g, double interpolation) {
         if (!active)
             return;
 
-        if (invulnerable && (invulnerabilityTimer / 5) % 2 == 0) {
+        if (invulnerable && (getInvulnerabilityTimer() / 5) % 2 == 0) {
             return;
         }
 
-        super.draw(g);
+        super.draw(g, interpolation);
 
         if (active) {
             g.setColor(statusColor);
-            g.setFont(new Font("Arial", Font.BOLD, 12));
+            g.setFont(FontCache.get("Arial", Font.BOLD, 12));
             FontMetrics fm = g.getFontMetrics();
             String shortName = name.length() > 10 ? name.substring(0, 10) : name;
-            int nameX = (int) (getX() + (getWidth() - fm.stringWidth(shortName)) / 2);
-            int nameY = (int) (getY() - 5);
+            int nameX = (int) (getRenderX(interpolation) + (getWidth() - fm.stringWidth(shortName)) / 2);
+            int nameY = (int) (getRenderY(interpolation) - 5);
             g.drawString(shortName, nameX, nameY);
         }
     }
@@ -80,38 +115,47 @@ public class Player extends Vehicle {
             lives--;
             invulnerable = true;
             invulnerabilityTimer = INVULNERABILITY_TIME;
+            if (scheduler != null) {
+                scheduler.cancel(invulnerabilityHandle);
+                invulnerabilityHandle = scheduler.schedule(INVULNERABILITY_TIME, invulnerabilityExpiry, 0);
+            }
 
-            System.out.println("💥 " + name + " terkena damage! Nyawa tersisa: " + lives);
+            GameLogger.log(LogEvent.PLAYER_DAMAGED, name, lives);
 
             if (lives <= 0) {
                 active = false;
-                System.out.println("💀 " + name + " kalah!");
+                GameLogger.log(LogEvent.PLAYER_DEFEATED, name);
             }
         } else if (invulnerable) {
-            System.out.println("🛡️ " + name + " masih invulnerable!");
+            GameLogger.log(LogEvent.PLAYER_STILL_INVULNERABLE, name);
         }
     }
 
     public void completeLevel() {
         levelsCompleted++;
-        System.out.println("🏆 " + name + " menyelesaikan level! Total: " + levelsCompleted);
+        GameLogger.log(LogEvent.PLAYER_LEVEL_COMPLETED, name, levelsCompleted);
 
         if (levelsCompleted % 3 == 0 && lives < 6) {
             lives++;
-            System.out.println("❤️ " + name + " mendapat bonus nyawa! Total: " + lives);
+            GameLogger.log(LogEvent.PLAYER_LEVEL_BONUS, name, lives);
         }
     }
 
     public void reset(double startX, double startY) {
         setX(startX);
         setY(startY);
+        savePreviousPosition();
         this.lives = PLAYER_LIVES;
         this.active = true;
         this.invulnerable = false;
         this.invulnerabilityTimer = 0;
+        if (scheduler != null) {
+            scheduler.cancel(invulnerabilityHandle);
+        }
+        this.invulnerabilityHandle = TickScheduler.NO_TIMER;
         this.levelsCompleted = 0;
 
-        System.out.println("🔄 " + name + " direset ke posisi (" + (int) startX + ", " + (int) startY + ")");
+        GameLogger.log(LogEvent.PLAYER_RESET, name, (int) startX, (int) startY);
     }
 
     public void moveUp() {
@@ -208,13 +252,13 @@ public class Player extends Vehicle {
 
     public void heal(int amount) {
         lives = Math.min(6, lives + amount);
-        System.out.println("❤️ " + name + " heal +" + amount + "! Nyawa: " + lives);
+        GameLogger.log(LogEvent.PLAYER_HEALED, name, amount, lives);
     }
 
     public void addBonusLife() {
         if (lives < 6) {
             lives++;
-            System.out.println("🎁 " + name + " bonus life! Total: " + lives);
+            GameLogger.log(LogEvent.PLAYER_BONUS_LIFE, name, lives);
         }
     }
 
@@ -231,9 +275,27 @@ public class Player extends Vehicle {
     }
 
     public int getInvulnerabilityTimer() {
+        if (!invulnerable)
+            return 0;
+        if (scheduler != null && invulnerabilityHandle != TickScheduler.NO_TIMER)
+            return (int) scheduler.remaining(invulnerabilityHandle);
         return invulnerabilityTimer;
     }
 
+    public void setScheduler(TickScheduler scheduler) {
+        int remaining = getInvulnerabilityTimer();
+        if (this.scheduler != null) {
+            this.scheduler.cancel(invulnerabilityHandle);
+        }
+        invulnerabilityHandle = TickScheduler.NO_TIMER;
+        invulnerabilityTimer = remaining;
+
+        this.scheduler = scheduler;
+        if (scheduler != null && invulnerable) {
+            invulnerabilityHandle = scheduler.schedule(Math.max(1, remaining), invulnerabilityExpiry, 0);
+        }
+    }
+
     public int getLevelsCompleted() {
         return levelsCompleted;
     }
@@ -3,7 +3,11 @@ package models;
 import interfaces.Drawable;
 import interfaces.Updatable;
 import interfaces.GameConstants;
+import managers.AssetManager;
+import managers.GameRandom;
+import managers.SpriteCache;
 import java.awt.*;
+import java.awt.image.BufferedImage;
 import java.util.Random;
 
 public class TreeObject implements Drawable, Updatable {
@@ -15,41 +19,49 @@ public class TreeObject implements Drawable, Updatable {
     private String treeType;
     private Random random;
     private double animationOffset;
+    private BufferedImage sprite;
+    private long spriteKey;
 
     public static final String[] TREE_TYPES = {
             "oak", "pine", "bush", "flower", "rock", "grass"
     };
 
+    private static final int SPRITE_PADDING = 2;
+
     public TreeObject(double x, double y, String type) {
+        this(x, y, type, null);
+    }
+
+    public TreeObject(double x, double y, String type, Random random) {
         this.x = x;
         this.y = y;
         this.treeType = type != null ? type : "bush";
-        this.random = new Random();
+        this.random = random != null ? random : GameRandom.unseeded();
         this.active = true;
-        this.animationOffset = random.nextDouble() * Math.PI * 2;
+        this.animationOffset = this.random.nextDouble() * Math.PI * 2;
 
         switch (treeType) {
             case "oak", "pine" -> {
-                width = 25 + random.nextInt(15);
-                height = 35 + random.nextInt(20);
+                width = 25 + this.random.nextInt(15);
+                height = 35 + this.random.nextInt(20);
                 treeColor = new Color(34, 139, 34);
                 trunkColor = new Color(139, 69, 19);
             }
             case "bush" -> {
-                width = 15 + random.nextInt(10);
-                height = 12 + random.nextInt(8);
+                width = 15 + this.random.nextInt(10);
+                height = 12 + this.random.nextInt(8);
                 treeColor = new Color(50, 205, 50);
                 trunkColor = new Color(85, 107, 47);
             }
             case "flower" -> {
-                width = 8 + random.nextInt(6);
-                height = 10 + random.nextInt(8);
+                width = 8 + this.random.nextInt(6);
+                height = 10 + this.random.nextInt(8);
                 treeColor = getRandomFlowerColor();
                 trunkColor = new Color(34, 139, 34);
             }
             case "rock" -> {
-                width = 12 + random.nextInt(10);
-                height = 8 + random.nextInt(6);
+                width = 12 + this.random.nextInt(10);
+                height = 8 + this.random.nextInt(6);
                 treeColor = Color.GRAY;
                 trunkColor = Color.DARK_GRAY;
             }
@@ -62,6 +74,25 @@ public class TreeObject implements Drawable, Updatable {
         }
     }
 
+    public TreeObject(TreeObject source) {
+        this.random = GameRandom.unseeded();
+        copyFrom(source);
+    }
+
+    public void copyFrom(TreeObject source) {
+        x = source.x;
+        y = source.y;
+        width = source.width;
+        height = source.height;
+        treeType = source.treeType;
+        treeColor = source.treeColor;
+        trunkColor = source.trunkColor;
+        active = source.active;
+        animationOffset = source.animationOffset;
+        sprite = source.sprite;
+        spriteKey = source.spriteKey;
+    }
+
     private Color getRandomFlowerColor() {
         Color[] colors = {
                 Color.RED, Color.YELLOW, Color.PINK, Color.MAGENTA,
@@ -76,23 +107,66 @@ public class TreeObject implements Drawable, Updatable {
         if (!active)
             return;
 
-        Color originalColor = g.getColor();
-
-        int intX = (int) x;
-        int intY = (int) y;
         int intWidth = (int) width;
         int intHeight = (int) height;
+        int padding = spritePadding(intHeight);
 
-        switch (treeType) {
-            case "oak" -> drawOakTree(g, intX, intY, intWidth, intHeight);
-            case "pine" -> drawPineTree(g, intX, intY, intWidth, intHeight);
-            case "bush" -> drawBush(g, intX, intY, intWidth, intHeight);
-            case "flower" -> drawFlower(g, intX, intY, intWidth, intHeight);
-            case "rock" -> drawRock(g, intX, intY, intWidth, intHeight);
-            default -> drawBush(g, intX, intY, intWidth, intHeight);
+        g.drawImage(getSprite(intWidth, intHeight), (int) x - padding, (int) y - padding, null);
+    }
+
+    private BufferedImage getSprite(int w, int h) {
+        long key = spriteKey(w, h);
+        if (sprite != null && spriteKey == key)
+            return sprite;
+
+        BufferedImage cached = SpriteCache.get(key);
+        if (cached == null) {
+            cached = rasterize(w, h, key);
+            SpriteCache.put(key, cached);
         }
 
-        g.setColor(originalColor);
+        sprite = cached;
+        spriteKey = key;
+        return sprite;
+    }
+
+    private long spriteKey(int w, int h) {
+        long typeIndex = 0;
+        for (int i = 0; i < TREE_TYPES.length; i++) {
+            if (TREE_TYPES[i].equals(treeType)) {
+                typeIndex = i + 1;
+                break;
+            }
+        }
+
+        return (typeIndex << 40) | ((long) (w & 0xFF) << 32) | ((long) (h & 0xFF) << 24) |
+                (treeColor.getRGB() & 0xFFFFFFL);
+    }
+
+    private BufferedImage rasterize(int w, int h, long key) {
+        int padding = spritePadding(h);
+        BufferedImage image = AssetManager.createCompatibleImage(w + padding * 2, h + padding * 2,
+                Transparency.TRANSLUCENT);
+
+        Graphics2D g = image.createGraphics();
+        try {
+            switch (treeType) {
+                case "oak" -> drawOakTree(g, padding, padding, w, h);
+                case "pine" -> drawPineTree(g, padding, padding, w, h);
+                case "bush" -> drawBush(g, padding, padding, w, h);
+                case "flower" -> drawFlower(g, padding, padding, w, h);
+                case "rock" -> drawRock(g, padding, padding, w, h, new GameRandom(key));
+                default -> drawBush(g, padding, padding, w, h);
+            }
+        } finally {
+            g.dispose();
+        }
+
+        return image;
+    }
+
+    private static int spritePadding(int h) {
+        return h / 6 + SPRITE_PADDING;
     }
 
     private void drawOakTree(Graphics2D g, int x, int y, int w, int h) {
@@ -155,7 +229,7 @@ public class TreeObject implements Drawable, Updatable {
         g.fillOval(x + w / 2 - w / 8, y + h / 3 - w / 8, w / 4, w / 4);
     }
 
-    private void drawRock(Graphics2D g, int x, int y, int w, int h) {
+    private void drawRock(Graphics2D g, int x, int y, int w, int h, Random dots) {
 
         g.setColor(treeColor);
         g.fillOval(x, y + h / 4, w, h * 3 / 4);
@@ -163,8 +237,8 @@ public class TreeObject implements Drawable, Updatable {
 
         g.setColor(trunkColor);
         for (int i = 0; i < 3; i++) {
-            int dotX = x + random.nextInt(w);
-            int dotY = y + random.nextInt(h);
+            int dotX = x + dots.nextInt(w);
+            int dotY = y + dots.nextInt(h);
             g.fillOval(dotX, dotY, 2, 2);
         }
 
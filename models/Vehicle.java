@@ -1,14 +1,14 @@
 package models;
 
 import interfaces.*;
+import managers.AssetManager;
 import java.awt.*;
 import java.awt.image.BufferedImage;
-import javax.imageio.ImageIO;
-import java.io.IOException;
 
 public abstract class Vehicle implements Drawable, Updatable {
 
     protected double x, y;
+    protected double prevX, prevY;
     protected double width, height;
     protected double speed;
     protected Color color; 
@@ -23,16 +23,21 @@ public abstract class Vehicle implements Drawable, Updatable {
         this.imageType = imageType;
         this.fallbackColor = fallbackColor;
         this.active = true;
+        savePreviousPosition();
         loadImage();
     }
 
-    private void loadImage() {
-        try {
-            this.image = ImageIO.read(getClass().getResource("/assets/" + imageType + ".png"));
-        } catch (IOException | IllegalArgumentException | NullPointerException e) {
-            System.out.println("Warning: Could not load " + imageType + ".png from assets folder");
-            this.image = null;
-        }
+    protected void copyStateFrom(Vehicle source) {
+        x = source.x;
+        y = source.y;
+        prevX = source.prevX;
+        prevY = source.prevY;
+        speed = source.speed;
+        active = source.active;
+    }
+
+    protected void loadImage() {
+        this.image = AssetManager.getCarSprite(imageType);
     }
 
     public abstract void updateMovement();
@@ -58,17 +63,30 @@ public abstract class Vehicle implements Drawable, Updatable {
         }
     }
 
+    public void savePreviousPosition() {
+        prevX = x;
+        prevY = y;
+    }
+
     @Override
     public void draw(Graphics2D g) {
+        draw(g, 1.0);
+    }
+
+    @Override
+    public void draw(Graphics2D g, double interpolation) {
         if (!active)
             return;
 
+        int drawX = (int) getRenderX(interpolation);
+        int drawY = (int) getRenderY(interpolation);
+
         if (image != null) {
-            g.drawImage(image, (int) x, (int) y, null);
+            g.drawImage(image, drawX, drawY, null);
         } else {
 
             g.setColor(fallbackColor);
-            g.fillRect((int) x, (int) y, (int) getWidth(), (int) getHeight());
+            g.fillRect(drawX, drawY, (int) getWidth(), (int) getHeight());
         }
     }
 
@@ -88,6 +106,14 @@ public abstract class Vehicle implements Drawable, Updatable {
         return y;
     }
 
+    public double getRenderX(double interpolation) {
+        return prevX + (x - prevX) * interpolation;
+    }
+
+    public double getRenderY(double interpolation) {
+        return prevY + (y - prevY) * interpolation;
+    }
+
     public double getWidth() {
         return GameConstants.CAR_WIDTH;
     }
@@ -0,0 +1,180 @@
+package models;
+
+import enums.DifficultyLevel;
+import enums.GameState;
+import interfaces.GameConstants;
+import managers.GameManager;
+import java.util.ArrayList;
+import java.util.List;
+
+public class WorldSnapshot {
+
+    private final ObstacleField obstacles = new ObstacleField(null, GameConstants.MAX_OBSTACLE_COUNT);
+    private final ParticleSystem particles = new ParticleSystem(null);
+    private final List<TreeObject> trees = new ArrayList<>();
+    private Player player1;
+    private Player player2;
+
+    private GameState gameState = GameState.MAIN_MENU;
+    private DifficultyLevel difficulty = DifficultyLevel.MEDIUM;
+    private int currentLevel = 1;
+    private int gameTimer;
+    private int totalSurvivalTime;
+    private double roadOffset;
+    private double previousRoadOffset;
+    private int menuSelection;
+    private int activeKeyCount;
+    private long poolMisses;
+
+    private int countdownTimer;
+    private int transitionCountdown;
+    private long totalTicks;
+    private long droppedTicks;
+    private long sequence;
+
+    public void capture(GameManager gameManager) {
+        gameState = gameManager.getGameState();
+        difficulty = gameManager.getDifficulty();
+        currentLevel = gameManager.getCurrentLevel();
+        gameTimer = gameManager.getGameTimer();
+        totalSurvivalTime = gameManager.getTotalSurvivalTime();
+        roadOffset = gameManager.getRoadOffset();
+        previousRoadOffset = gameManager.getRoadOffset(0.0);
+        menuSelection = gameManager.getInputManager().getMenuSelection();
+        activeKeyCount = gameManager.getInputManager().getActiveKeyCount();
+        poolMisses = gameManager.getObstaclePool().getMisses();
+        countdownTimer = gameManager.getCountdownTimer();
+        transitionCountdown = gameManager.getTransitionCountdown();
+
+        obstacles.copyFrom(gameManager.getObstacles());
+        particles.copyFrom(gameManager.getParticles());
+        player1 = copyPlayer(player1, gameManager.getPlayer1());
+        player2 = copyPlayer(player2, gameManager.getPlayer2());
+        copyTrees(gameManager.getTrees());
+    }
+
+    private Player copyPlayer(Player target, Player source) {
+        if (source == null)
+            return null;
+
+        if (target == null) {
+            return new Player(source);
+        }
+        target.copyFrom(source);
+        return target;
+    }
+
+    private void copyTrees(List<TreeObject> source) {
+        if (source == null) {
+            trees.clear();
+            return;
+        }
+
+        while (trees.size() > source.size()) {
+            trees.remove(trees.size() - 1);
+        }
+
+        for (int i = 0; i < source.size(); i++) {
+            TreeObject tree = source.get(i);
+            if (i < trees.size()) {
+                trees.get(i).copyFrom(tree);
+            } else {
+                trees.add(new TreeObject(tree));
+            }
+        }
+    }
+
+    public void setOverlay(int countdownTimer, int transitionCountdown) {
+        this.countdownTimer = countdownTimer;
+        this.transitionCountdown = transitionCountdown;
+    }
+
+    public void setLoopStats(long totalTicks, long droppedTicks) {
+        this.totalTicks = totalTicks;
+        this.droppedTicks = droppedTicks;
+    }
+
+    public GameState getGameState() {
+        return gameState;
+    }
+
+    public DifficultyLevel getDifficulty() {
+        return difficulty;
+    }
+
+    public int getCurrentLevel() {
+        return currentLevel;
+    }
+
+    public int getGameTimer() {
+        return gameTimer;
+    }
+
+    public int getTotalSurvivalTime() {
+        return totalSurvivalTime;
+    }
+
+    public double getRoadOffset() {
+        return roadOffset;
+    }
+
+    public double getRoadOffset(double interpolation) {
+        return previousRoadOffset + (roadOffset - previousRoadOffset) * interpolation;
+    }
+
+    public int getMenuSelection() {
+        return menuSelection;
+    }
+
+    public int getActiveKeyCount() {
+        return activeKeyCount;
+    }
+
+    public long getPoolMisses() {
+        return poolMisses;
+    }
+
+    public ObstacleField getObstacles() {
+        return obstacles;
+    }
+
+    public ParticleSystem getParticles() {
+        return particles;
+    }
+
+    public List<TreeObject> getTrees() {
+        return trees;
+    }
+
+    public Player getPlayer1() {
+        return player1;
+    }
+
+    public Player getPlayer2() {
+        return player2;
+    }
+
+    public int getCountdownTimer() {
+        return countdownTimer;
+    }
+
+    public int getTransitionCountdown() {
+        return transitionCountdown;
+    }
+
+    public long getTotalTicks() {
+        return totalTicks;
+    }
+
+    public long getDroppedTicks() {
+        return droppedTicks;
+    }
+
+    public void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+}